@@ -0,0 +1,307 @@
+import java.util.Arrays;
+
+/**
+ * Classe AlphaBetaSearch - Busca negamax com poda alfa-beta em profundidade limitada
+ * Funciona em qualquer GamePosition; nas folhas usa a avaliação heurística
+ * da posição e ordena as jogadas pela heurística de histórico. Com uma tabela
+ * de transposição, reaproveita valores e melhores jogadas de posições já
+ * vistas (por esta ou por outras buscas que usem a mesma tabela).
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class AlphaBetaSearch {
+    
+    // Vitória a n jogadas da raiz vale WIN_SCORE - n (vitórias rápidas valem mais)
+    public static final int WIN_SCORE = 1000000;
+    
+    // Valores a partir daqui são vitórias e ficam na tabela relativos ao nó
+    private static final int WIN_THRESHOLD = WIN_SCORE - 100000;
+    
+    // Prazo de uma busca sem limite de tempo: o relógio não é consultado
+    // (System.nanoTime() pode ser negativo, e a subtração passaria do limite)
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+    
+    private final int maxDepth; // Profundidade máxima, em jogadas
+    private final SearchStats stats = new SearchStats();
+    
+    private int[][] moveBuffers = new int[0][]; // Jogadas de cada nível, reaproveitadas
+    private int[] historyScores = new int[0]; // Cortes beta por célula
+    private long nodes;
+    private long deadline = NO_DEADLINE; // Instante-limite da busca (System.nanoTime)
+    private boolean aborted; // Prazo esgotado durante a última busca na raiz
+    private int rootScore; // Valor da última busca na raiz
+    private volatile boolean stopped; // Pedido de parada de outra thread
+    private TranspositionTable table; // Tabela de transposição (opcional)
+    
+    /**
+     * Construtor
+     * @param maxDepth profundidade máxima da busca, em jogadas
+     */
+    public AlphaBetaSearch(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+    
+    /**
+     * Escolhe a jogada para o jogador da vez
+     * @param position posição (alterada durante a busca e restaurada ao final)
+     * @return índice da célula escolhida
+     */
+    public int chooseMove(GamePosition position) {
+        long start = System.nanoTime();
+        reset(position.cellCount());
+        int bestMove = searchRoot(position, maxDepth, -1, NO_DEADLINE);
+        stats.record(nodes, System.nanoTime() - start, rootScore, maxDepth);
+        return bestMove;
+    }
+    
+    /**
+     * Prepara uma nova escolha de jogada: zera o contador de nós e o histórico
+     * @param cellCount número de células do tabuleiro
+     */
+    void reset(int cellCount) {
+        nodes = 0;
+        ensureBuffers(cellCount);
+        Arrays.fill(historyScores, 0);
+    }
+    
+    /**
+     * Busca na raiz com profundidade e prazo dados. O histórico de cortes é
+     * mantido entre chamadas, o que melhora a ordenação do aprofundamento iterativo.
+     * @param position posição (alterada durante a busca e restaurada ao final)
+     * @param depth profundidade da busca, em jogadas
+     * @param firstMove jogada examinada primeiro (a melhor da busca anterior), ou -1
+     * @param deadline instante-limite em System.nanoTime(), ou NO_DEADLINE
+     * @return melhor jogada encontrada; se o prazo acabar (ver wasAborted), o
+     *         resultado é parcial e só serve como último recurso
+     */
+    int searchRoot(GamePosition position, int depth, int firstMove, long deadline) {
+        this.deadline = deadline;
+        aborted = false;
+        
+        int[] moves = moveBuffers[0];
+        int count = position.generateMoves(moves);
+        for (int i = 1; i < count; i++) {
+            if (moves[i] == firstMove) {
+                moves[i] = moves[0];
+                moves[0] = firstMove;
+                break;
+            }
+        }
+        int bestMove = moves[0];
+        int alpha = -WIN_SCORE - 1;
+        
+        for (int i = 0; i < count; i++) {
+            int score = scoreMove(position, moves[i], depth, alpha, WIN_SCORE + 1, 0);
+            if (aborted) {
+                break;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = moves[i];
+            }
+        }
+        
+        rootScore = alpha;
+        return bestMove;
+    }
+    
+    /**
+     * Faz a jogada, avalia a posição resultante e desfaz a jogada
+     * @return valor da jogada para quem a fez
+     */
+    private int scoreMove(GamePosition position, int move, int depth, int alpha, int beta, int ply) {
+        position.play(move);
+        int score;
+        if (position.isWon()) {
+            score = WIN_SCORE - ply - 1;
+        } else if (position.isFull()) {
+            score = 0;
+        } else {
+            score = -negamax(position, depth - 1, -beta, -alpha, ply + 1);
+        }
+        position.undo();
+        return score;
+    }
+    
+    /**
+     * Avalia a posição para o jogador da vez
+     */
+    private int negamax(GamePosition position, int depth, int alpha, int beta, int ply) {
+        nodes++;
+        // Consulta o relógio a cada 1024 nós; esgotado o prazo (ou pedida a
+        // parada, por stop() ou interrompendo a thread), a busca só desfaz as jogadas
+        if (aborted || ((nodes & 1023) == 0 && (stopped || Thread.currentThread().isInterrupted()
+                || (deadline != NO_DEADLINE && System.nanoTime() - deadline >= 0)))) {
+            aborted = true;
+            return 0;
+        }
+        if (depth == 0) {
+            return position.evaluate();
+        }
+        
+        long hash = 0;
+        int tableMove = -1;
+        if (table != null) {
+            hash = position.positionHash();
+            long entry = table.probe(hash);
+            if (entry != 0) {
+                tableMove = TranspositionTable.getMove(entry);
+                if (TranspositionTable.getDepth(entry) >= depth) {
+                    int score = fromTable(TranspositionTable.getScore(entry), ply);
+                    int bound = TranspositionTable.getBound(entry);
+                    if (bound == TranspositionTable.EXACT
+                            || (bound == TranspositionTable.LOWER && score >= beta)
+                            || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                        return score;
+                    }
+                }
+            }
+        }
+        
+        int[] moves = moveBuffers[ply];
+        int count = position.generateMoves(moves);
+        sortByHistory(moves, count);
+        moveToFront(moves, count, tableMove);
+        
+        int alphaOriginal = alpha;
+        int best = -WIN_SCORE - 1;
+        int bestMove = -1;
+        for (int i = 0; i < count; i++) {
+            int score = scoreMove(position, moves[i], depth, alpha, beta, ply);
+            if (aborted) {
+                return 0;
+            }
+            if (score > best) {
+                best = score;
+                bestMove = moves[i];
+            }
+            if (best > alpha) {
+                alpha = best;
+            }
+            if (alpha >= beta) {
+                historyScores[moves[i]] += depth * depth; // Poda beta
+                break;
+            }
+        }
+        
+        if (table != null) {
+            int bound = (best >= beta) ? TranspositionTable.LOWER
+                    : (best <= alphaOriginal) ? TranspositionTable.UPPER : TranspositionTable.EXACT;
+            table.store(hash, TranspositionTable.entry(bestMove, Math.min(depth, 255), bound,
+                    toTable(best, ply)));
+        }
+        return best;
+    }
+    
+    /**
+     * Vitórias valem WIN_SCORE - (jogadas desde a raiz); na tabela ficam
+     * contadas a partir do nó, para valerem em qualquer caminho até ele
+     */
+    private static int toTable(int score, int ply) {
+        if (score >= WIN_THRESHOLD) return score + ply;
+        if (score <= -WIN_THRESHOLD) return score - ply;
+        return score;
+    }
+    
+    private static int fromTable(int score, int ply) {
+        if (score >= WIN_THRESHOLD) return score - ply;
+        if (score <= -WIN_THRESHOLD) return score + ply;
+        return score;
+    }
+    
+    /**
+     * Coloca uma jogada (a melhor guardada na tabela) na frente das demais
+     */
+    private static void moveToFront(int[] moves, int count, int move) {
+        if (move < 0) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Ordena as jogadas pelo histórico de cortes (ordenação por inserção estável,
+     * preservando a ordem da posição entre jogadas de mesmo histórico)
+     */
+    private void sortByHistory(int[] moves, int count) {
+        for (int i = 1; i < count; i++) {
+            int move = moves[i];
+            int score = historyScores[move];
+            int j = i - 1;
+            while (j >= 0 && historyScores[moves[j]] < score) {
+                moves[j + 1] = moves[j];
+                j--;
+            }
+            moves[j + 1] = move;
+        }
+    }
+    
+    private void ensureBuffers(int cellCount) {
+        if (historyScores.length != cellCount) {
+            historyScores = new int[cellCount];
+            moveBuffers = new int[cellCount + 1][cellCount];
+        }
+    }
+    
+    /**
+     * Define a tabela de transposição usada pela busca
+     * @param table tabela (pode ser compartilhada com buscas em outras threads), ou null
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+    
+    /**
+     * Pede que a busca em andamento pare (chamado de outra thread); vale até
+     * clearStop()
+     */
+    void stop() {
+        stopped = true;
+    }
+    
+    /**
+     * Permite buscar de novo depois de stop()
+     */
+    void clearStop() {
+        stopped = false;
+    }
+    
+    /**
+     * Indica se o prazo acabou durante a última busca na raiz
+     * @return true se a última busca foi interrompida
+     */
+    boolean wasAborted() {
+        return aborted;
+    }
+    
+    /**
+     * Obtém o valor da última busca na raiz, para o jogador da vez
+     * @return valor da posição
+     */
+    int getRootScore() {
+        return rootScore;
+    }
+    
+    /**
+     * Obtém o número de nós visitados desde o último reset
+     * @return nós visitados
+     */
+    long getNodes() {
+        return nodes;
+    }
+    
+    /**
+     * Obtém as estatísticas da última busca
+     * @return estatísticas da última busca
+     */
+    public SearchStats getLastStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,100 @@
+import java.io.IOException;
+
+/**
+ * Classe AnsiBoardRenderer - Redesenho incremental do tabuleiro no terminal
+ * O primeiro quadro limpa a tela e desenha o tabuleiro inteiro (o mesmo texto
+ * de TicTacToe.renderBoard); os seguintes só reposicionam o cursor (sequências
+ * ANSI) e reescrevem as células que mudaram desde o quadro anterior, então
+ * cada jogada custa poucos bytes mesmo em tabuleiros grandes. Depois do
+ * tabuleiro o cursor fica no início da área de mensagens, que é limpa a cada
+ * quadro.
+ *
+ * Serve para qualquer Appendable: terminal, Writer de um socket, etc.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class AnsiBoardRenderer {
+
+    private static final char ESC = '\u001B';
+
+    private final int rows;
+    private final int cols;
+    private final int labelWidth;
+    private final char[] shown; // Símbolo exibido em cada célula
+    private boolean drawn; // false até o primeiro quadro completo
+    private int lastChangedCells;
+
+    /**
+     * Construtor
+     * @param rows número de linhas do tabuleiro
+     * @param cols número de colunas do tabuleiro
+     */
+    public AnsiBoardRenderer(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.labelWidth = TicTacToe.digits(rows - 1);
+        this.shown = new char[rows * cols];
+    }
+
+    /**
+     * Desenha o estado atual do jogo
+     * @param game jogo com as mesmas dimensões do renderizador
+     * @param out destino das sequências ANSI
+     * @throws IOException se a escrita no destino falhar
+     */
+    public void render(TicTacToe game, Appendable out) throws IOException {
+        if (game.getRows() != rows || game.getCols() != cols) {
+            throw new IllegalArgumentException("Tabuleiro " + game.getRows() + "x" + game.getCols()
+                    + " não corresponde ao renderizador " + rows + "x" + cols);
+        }
+        if (!drawn) {
+            out.append(ESC).append("[H").append(ESC).append("[2J");
+            game.renderBoard(out);
+            for (int cell = 0; cell < shown.length; cell++) {
+                shown[cell] = game.symbolAt(cell);
+            }
+            drawn = true;
+            lastChangedCells = shown.length;
+        } else {
+            lastChangedCells = 0;
+            for (int cell = 0; cell < shown.length; cell++) {
+                char symbol = game.symbolAt(cell);
+                if (symbol != shown[cell]) {
+                    moveCursor(out, 3 + 2 * (cell / cols), labelWidth + 2 + 4 * (cell % cols));
+                    out.append(symbol);
+                    shown[cell] = symbol;
+                    lastChangedCells++;
+                }
+            }
+        }
+        // Área de mensagens logo abaixo do tabuleiro
+        moveCursor(out, 2 * rows + 2, 1);
+        out.append(ESC).append("[J");
+    }
+
+    /**
+     * Força um quadro completo no próximo render (ex: após a tela ser limpa)
+     */
+    public void invalidate() {
+        drawn = false;
+    }
+
+    /**
+     * @return células reescritas no último quadro
+     */
+    public int getLastChangedCells() {
+        return lastChangedCells;
+    }
+
+    /**
+     * Posiciona o cursor (linha e coluna começam em 1)
+     */
+    private static void moveCursor(Appendable out, int line, int column) throws IOException {
+        out.append(ESC).append('[');
+        TicTacToe.appendNumber(out, line);
+        out.append(';');
+        TicTacToe.appendNumber(out, column);
+        out.append('H');
+    }
+}
@@ -0,0 +1,151 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe AtomicTicTacToe - Jogo da velha 3x3 seguro para várias threads, sem travas
+ * Todo o estado (tabuleiro, jogador da vez e situação) cabe em um único long,
+ * e cada jogada é aplicada com compare-and-set: leitores sempre veem um estado
+ * consistente e jogadas simultâneas se resolvem sem bloquear (uma vence, as
+ * outras tentam de novo sobre o novo estado). As respostas de makeMove,
+ * getCell, getWinner e isGameOver são as mesmas de TicTacToe.
+ *
+ * Formato do estado: bits 0-8 células de X, 9-17 células de O, 18 vez de O,
+ * 19 vitória, 20 empate, 21 modo contra computador, 22 humano joga com O.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class AtomicTicTacToe {
+
+    private static final int O_SHIFT = 9;
+    private static final long O_TO_MOVE = 1L << 18;
+    private static final long WON = 1L << 19;
+    private static final long TIED = 1L << 20;
+    private static final long COMPUTER_MODE = 1L << 21;
+    private static final long HUMAN_IS_O = 1L << 22;
+    private static final int FULL = 0x1FF;
+
+    private final AtomicLong state;
+    private final long initialState;
+
+    /**
+     * Construtor - Dois jogadores
+     */
+    public AtomicTicTacToe() {
+        initialState = 0;
+        state = new AtomicLong(initialState);
+    }
+
+    /**
+     * Construtor para modo contra computador; o computador joga de forma
+     * perfeita, consultando a SolvedTable
+     * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
+     */
+    public AtomicTicTacToe(boolean humanGoesFirst) {
+        long start = COMPUTER_MODE | (humanGoesFirst ? 0 : HUMAN_IS_O);
+        initialState = humanGoesFirst ? start : place(start, SolvedTable.bestMove(0, 0));
+        state = new AtomicLong(initialState);
+    }
+
+    /**
+     * Faz uma jogada no tabuleiro (e, contra o computador, a resposta dele,
+     * na mesma troca atômica)
+     * @param row linha (0-2)
+     * @param col coluna (0-2)
+     * @return true se a jogada foi válida, false caso contrário
+     */
+    public boolean makeMove(int row, int col) {
+        if (row < 0 || row > 2 || col < 0 || col > 2) {
+            return false;
+        }
+        int cell = row * 3 + col;
+        while (true) {
+            long current = state.get();
+            if ((current & (WON | TIED)) != 0 || ((xBits(current) | oBits(current)) & (1 << cell)) != 0) {
+                return false;
+            }
+            long next = place(current, cell);
+            if ((next & (COMPUTER_MODE | WON | TIED)) == COMPUTER_MODE) {
+                next = place(next, SolvedTable.bestMove(xBits(next), oBits(next)));
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Calcula o estado após o jogador da vez ocupar a célula
+     */
+    private static long place(long current, int cell) {
+        boolean oMoves = (current & O_TO_MOVE) != 0;
+        long next = current | (1L << (cell + (oMoves ? O_SHIFT : 0)));
+        int mine = oMoves ? oBits(next) : xBits(next);
+        if (TicTacToe.checkForWin(mine)) {
+            return next | WON; // Quem venceu continua como jogador da vez, como em TicTacToe
+        }
+        if ((xBits(next) | oBits(next)) == FULL) {
+            return next | TIED;
+        }
+        return next ^ O_TO_MOVE;
+    }
+
+    /**
+     * Reinicia o jogo
+     */
+    public void resetGame() {
+        state.set(initialState);
+    }
+
+    /**
+     * Obtém o estado completo, para ler várias informações do mesmo instante
+     * com os métodos estáticos
+     * @return estado empacotado
+     */
+    public long getState() {
+        return state.get();
+    }
+
+    // Leitura de um estado empacotado
+
+    public static int xBits(long state) {
+        return (int) state & FULL;
+    }
+
+    public static int oBits(long state) {
+        return (int) (state >>> O_SHIFT) & FULL;
+    }
+
+    public static TicTacToe.Cell getCell(long state, int row, int col) {
+        if (row < 0 || row > 2 || col < 0 || col > 2) {
+            throw new ArrayIndexOutOfBoundsException("Célula fora do tabuleiro: " + row + "," + col);
+        }
+        int bit = 1 << (row * 3 + col);
+        if ((xBits(state) & bit) != 0) return TicTacToe.Cell.X;
+        if ((oBits(state) & bit) != 0) return TicTacToe.Cell.O;
+        return TicTacToe.Cell.EMPTY;
+    }
+
+    public static TicTacToe.Cell getCurrentPlayer(long state) {
+        return (state & O_TO_MOVE) != 0 ? TicTacToe.Cell.O : TicTacToe.Cell.X;
+    }
+
+    public static TicTacToe.Cell getWinner(long state) {
+        return (state & WON) != 0 ? getCurrentPlayer(state) : TicTacToe.Cell.EMPTY;
+    }
+
+    public static boolean isGameOver(long state) {
+        return (state & (WON | TIED)) != 0;
+    }
+
+    // Getters (cada um lê o estado uma vez)
+    public TicTacToe.Cell getCell(int row, int col) { return getCell(state.get(), row, col); }
+    public TicTacToe.Cell getCurrentPlayer() { return getCurrentPlayer(state.get()); }
+    public TicTacToe.Cell getWinner() { return getWinner(state.get()); }
+    public boolean isGameWon() { return (state.get() & WON) != 0; }
+    public boolean isGameTied() { return (state.get() & TIED) != 0; }
+    public boolean isGameOver() { return isGameOver(state.get()); }
+    public boolean isComputerMode() { return (state.get() & COMPUTER_MODE) != 0; }
+    public TicTacToe.Cell getHumanPlayer() {
+        return (state.get() & HUMAN_IS_O) != 0 ? TicTacToe.Cell.O : TicTacToe.Cell.X;
+    }
+}
@@ -0,0 +1,131 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Classe BatchAnalyzer - Análise de posições em lote, sem interação
+ * Lê uma posição 3x3 por linha (TicTacToe.toBoardString, ex: "X...O....") e
+ * escreve, na mesma ordem, a melhor jogada, o valor e as estatísticas da
+ * busca. As linhas são analisadas em blocos distribuídos pelos núcleos, com
+ * poucos blocos em andamento de cada vez, então a memória não cresce com a
+ * entrada.
+ *
+ * Saída por linha: tabuleiro linha coluna valor nós µs
+ *   posição terminada: tabuleiro FIM estado (VITORIA_X, VITORIA_O ou EMPATE)
+ *   linha inválida:    tabuleiro ERRO motivo
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class BatchAnalyzer {
+
+    private static final int BLOCK_LINES = 4096; // Linhas por tarefa
+
+    private final int threads;
+    private final ThreadLocal<ComputerStrategy> strategies; // Uma estratégia por thread
+
+    /**
+     * Construtor
+     * @param strategy cria a estratégia usada na análise (uma por thread)
+     * @param threads número de threads
+     */
+    public BatchAnalyzer(Supplier<ComputerStrategy> strategy, int threads) {
+        this.threads = threads;
+        this.strategies = ThreadLocal.withInitial(strategy);
+    }
+
+    /**
+     * Analisa todas as linhas da entrada
+     * @param input posições, uma por linha (linhas em branco são ignoradas)
+     * @param output resultados, na ordem da entrada
+     * @return número de posições analisadas
+     * @throws IOException se a leitura ou a escrita falhar
+     */
+    public long analyze(BufferedReader input, Writer output) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ArrayDeque<ForkJoinTask<List<String>>> pending = new ArrayDeque<>();
+        long count = 0;
+        try {
+            List<String> block = new ArrayList<>(BLOCK_LINES);
+            String line;
+            while ((line = input.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                block.add(line);
+                count++;
+                if (block.size() == BLOCK_LINES) {
+                    submit(pool, pending, block, output);
+                    block = new ArrayList<>(BLOCK_LINES);
+                }
+            }
+            if (!block.isEmpty()) {
+                submit(pool, pending, block, output);
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll().join(), output);
+            }
+            output.flush();
+        } finally {
+            pool.shutdown();
+        }
+        return count;
+    }
+
+    /**
+     * Envia um bloco para análise; com muitos blocos em andamento, escreve
+     * antes o resultado do mais antigo
+     */
+    private void submit(ForkJoinPool pool, ArrayDeque<ForkJoinTask<List<String>>> pending, List<String> block,
+            Writer output) throws IOException {
+        pending.add(pool.submit(() -> {
+            List<String> results = new ArrayList<>(block.size());
+            for (String position : block) {
+                results.add(analyzeLine(position, strategies.get()));
+            }
+            return results;
+        }));
+        if (pending.size() > 2 * threads) {
+            write(pending.poll().join(), output);
+        }
+    }
+
+    private static void write(List<String> results, Writer output) throws IOException {
+        for (String result : results) {
+            output.write(result);
+            output.write('\n');
+        }
+    }
+
+    /**
+     * Analisa uma posição
+     * @param line tabuleiro em uma linha
+     * @param strategy estratégia usada na análise
+     * @return linha de resultado
+     */
+    static String analyzeLine(String line, ComputerStrategy strategy) {
+        TicTacToe game;
+        try {
+            game = TicTacToe.fromBoardString(line);
+        } catch (IllegalArgumentException e) {
+            return line + " ERRO " + e.getMessage();
+        }
+        if (game.isGameWon()) {
+            return line + " FIM VITORIA_" + game.getWinner();
+        }
+        if (game.isGameTied()) {
+            return line + " FIM EMPATE";
+        }
+        int move = strategy.chooseMove(game);
+        SearchStats stats = strategy.getLastStats();
+        return line + " " + move / 3 + " " + move % 3 + " " + stats.getScore() + " " + stats.getNodes()
+                + " " + stats.getElapsedMicros();
+    }
+}
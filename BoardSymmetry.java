@@ -0,0 +1,121 @@
+/**
+ * Classe BoardSymmetry - Simetrias do tabuleiro 3x3 (rotações e reflexões)
+ * Leva uma posição ao representante canônico entre as suas 8 simetrias,
+ * informando a transformação usada para desfazer o mapeamento das jogadas
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public final class BoardSymmetry {
+    
+    public static final int TRANSFORMS = 8;
+    
+    // Destino de cada célula em cada transformação (célula = row * 3 + col):
+    // identidade, rotações de 90, 180 e 270 graus, reflexão horizontal,
+    // reflexão vertical, diagonal principal e diagonal secundária
+    private static final int[][] CELL_MAP = new int[TRANSFORMS][9];
+    
+    // Transformação inversa de cada célula
+    private static final int[][] CELL_UNMAP = new int[TRANSFORMS][9];
+    
+    // Máscara de 9 bits transformada, para cada transformação e cada máscara
+    private static final short[][] MASK_MAP = new short[TRANSFORMS][1 << 9];
+    
+    static {
+        for (int cell = 0; cell < 9; cell++) {
+            int r = cell / 3;
+            int c = cell % 3;
+            int[] targets = {
+                r * 3 + c,               // Identidade
+                c * 3 + (2 - r),         // Rotação 90
+                (2 - r) * 3 + (2 - c),   // Rotação 180
+                (2 - c) * 3 + r,         // Rotação 270
+                r * 3 + (2 - c),         // Reflexão horizontal
+                (2 - r) * 3 + c,         // Reflexão vertical
+                c * 3 + r,               // Diagonal principal
+                (2 - c) * 3 + (2 - r)    // Diagonal secundária
+            };
+            for (int t = 0; t < TRANSFORMS; t++) {
+                CELL_MAP[t][cell] = targets[t];
+                CELL_UNMAP[t][targets[t]] = cell;
+            }
+        }
+        for (int t = 0; t < TRANSFORMS; t++) {
+            for (int mask = 1; mask < (1 << 9); mask++) {
+                int low = Integer.numberOfTrailingZeros(mask);
+                MASK_MAP[t][mask] = (short) (MASK_MAP[t][mask & (mask - 1)] | 1 << CELL_MAP[t][low]);
+            }
+        }
+    }
+    
+    private BoardSymmetry() {
+    }
+    
+    /**
+     * Calcula a chave canônica de uma posição: a menor chave
+     * (first | second << 9) entre as 8 simetrias
+     * @param first células do primeiro jogador (9 bits)
+     * @param second células do segundo jogador (9 bits)
+     * @return chave canônica (18 bits) | transformação usada << 18
+     */
+    public static int canonical(int first, int second) {
+        int best = first | second << 9;
+        int bestTransform = 0;
+        for (int t = 1; t < TRANSFORMS; t++) {
+            int key = MASK_MAP[t][first] | MASK_MAP[t][second] << 9;
+            if (key < best) {
+                best = key;
+                bestTransform = t;
+            }
+        }
+        return best | bestTransform << 18;
+    }
+    
+    /**
+     * Extrai a chave de 18 bits do resultado de canonical
+     * @param canonical resultado de canonical
+     * @return chave canônica
+     */
+    public static int key(int canonical) {
+        return canonical & 0x3FFFF;
+    }
+    
+    /**
+     * Extrai a transformação do resultado de canonical
+     * @param canonical resultado de canonical
+     * @return transformação (0-7)
+     */
+    public static int transform(int canonical) {
+        return canonical >>> 18;
+    }
+    
+    /**
+     * Aplica uma transformação a uma máscara de células
+     * @param transform transformação (0-7)
+     * @param mask máscara de 9 bits
+     * @return máscara transformada
+     */
+    public static int mapMask(int transform, int mask) {
+        return MASK_MAP[transform][mask];
+    }
+    
+    /**
+     * Leva uma célula do tabuleiro real para o tabuleiro canônico
+     * @param transform transformação (0-7)
+     * @param cell índice da célula no tabuleiro real
+     * @return índice da célula no tabuleiro canônico
+     */
+    public static int mapCell(int transform, int cell) {
+        return CELL_MAP[transform][cell];
+    }
+    
+    /**
+     * Leva uma célula do tabuleiro canônico de volta ao tabuleiro real
+     * @param transform transformação (0-7)
+     * @param cell índice da célula no tabuleiro canônico
+     * @return índice da célula no tabuleiro real
+     */
+    public static int unmapCell(int transform, int cell) {
+        return CELL_UNMAP[transform][cell];
+    }
+}
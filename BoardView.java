@@ -0,0 +1,245 @@
+import java.awt.*;
+import java.awt.event.*;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import javax.swing.*;
+
+/**
+ * Classe BoardView - Tabuleiro desenhado em um único componente Swing
+ * Substitui a grade de botões: cada célula é um retângulo calculado a partir
+ * do tamanho do componente, cliques são convertidos em índices de célula e,
+ * como ouvinte do jogo (MoveListener), só as células que mudaram são
+ * redesenhadas. Serve para tabuleiros m x n (uma camada) e para o 4x4x4
+ * (quatro camadas lado a lado).
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class BoardView extends JComponent implements MoveListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int LAYER_GAP = 12; // Espaço entre camadas, em pixels
+    private static final int PREFERRED_CELL = 40; // Tamanho preferido da célula, em pixels
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color GRID = Color.GRAY;
+    private static final Color LAST_MOVE = new Color(255, 250, 205); // Fundo da última jogada
+    private static final Color X_COLOR = new Color(30, 80, 200);
+    private static final Color O_COLOR = new Color(200, 40, 40);
+    private static final Stroke GRID_STROKE = new BasicStroke(1f);
+
+    private final int rows;
+    private final int cols;
+    private final int layers;
+    private final int layersPerRow; // Camadas por fileira na tela
+    private final TicTacToe.Cell[] cells; // Conteúdo exibido
+    private int lastMove = -1; // Célula destacada (-1 se nenhuma)
+    private IntConsumer clickHandler;
+    private long repaintedCells; // Células redesenhadas desde a criação
+
+    /**
+     * Construtor para tabuleiros m x n
+     * @param rows número de linhas
+     * @param cols número de colunas
+     */
+    public BoardView(int rows, int cols) {
+        this(rows, cols, 1);
+    }
+
+    /**
+     * Construtor para tabuleiros com várias camadas (ex: 4 camadas 4x4)
+     * @param rows linhas por camada
+     * @param cols colunas por camada
+     * @param layers número de camadas
+     */
+    public BoardView(int rows, int cols, int layers) {
+        this.rows = rows;
+        this.cols = cols;
+        this.layers = layers;
+        this.layersPerRow = (int) Math.ceil(Math.sqrt(layers));
+        this.cells = new TicTacToe.Cell[rows * cols * layers];
+        Arrays.fill(cells, TicTacToe.Cell.EMPTY);
+        setOpaque(true);
+        setPreferredSize(new Dimension(layersPerRow * cols * PREFERRED_CELL + (layersPerRow - 1) * LAYER_GAP,
+                layerRows() * rows * PREFERRED_CELL + (layerRows() - 1) * LAYER_GAP));
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int cell = cellAt(e.getX(), e.getY());
+                if (cell >= 0 && isEnabled() && clickHandler != null) {
+                    clickHandler.accept(cell);
+                }
+            }
+        });
+    }
+
+    /**
+     * Define a ação executada ao clicar em uma célula
+     * @param handler recebe o índice da célula clicada
+     */
+    public void setClickHandler(IntConsumer handler) {
+        clickHandler = handler;
+    }
+
+    @Override
+    public void cellChanged(int cell, TicTacToe.Cell value) {
+        cells[cell] = value;
+        repaintCell(cell);
+        if (value != TicTacToe.Cell.EMPTY) {
+            int previous = lastMove;
+            lastMove = cell;
+            if (previous >= 0) repaintCell(previous);
+        } else if (cell == lastMove) {
+            lastMove = -1;
+        }
+    }
+
+    @Override
+    public void boardCleared() {
+        Arrays.fill(cells, TicTacToe.Cell.EMPTY);
+        lastMove = -1;
+        repaint();
+    }
+
+    /**
+     * Mostra o tabuleiro de um jogo já em andamento (ex: ao trocar de jogo)
+     * @param game jogo com as mesmas dimensões da visualização
+     */
+    public void showGame(TicTacToe game) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = game.getCell(cell / cols, cell % cols);
+        }
+        lastMove = game.getBoard().getMoveCount() > 0 ? game.getBoard().getLastMove() : -1;
+        repaint();
+    }
+
+    private void repaintCell(int cell) {
+        repaintedCells++;
+        repaint(cellBounds(cell));
+    }
+
+    private int layerRows() {
+        return (layers + layersPerRow - 1) / layersPerRow;
+    }
+
+    /**
+     * Lado de uma célula para o tamanho atual do componente
+     */
+    private int cellSize() {
+        int width = (getWidth() - (layersPerRow - 1) * LAYER_GAP) / (layersPerRow * cols);
+        int height = (getHeight() - (layerRows() - 1) * LAYER_GAP) / (layerRows() * rows);
+        return Math.max(1, Math.min(width, height));
+    }
+
+    private int originX(int size) {
+        return (getWidth() - layersPerRow * cols * size - (layersPerRow - 1) * LAYER_GAP) / 2;
+    }
+
+    private int originY(int size) {
+        return (getHeight() - layerRows() * rows * size - (layerRows() - 1) * LAYER_GAP) / 2;
+    }
+
+    /**
+     * Retângulo ocupado por uma célula
+     * @param cell índice da célula
+     * @return área da célula no componente
+     */
+    public Rectangle cellBounds(int cell) {
+        int size = cellSize();
+        int layer = cell / (rows * cols);
+        int row = (cell / cols) % rows;
+        int col = cell % cols;
+        int x = originX(size) + (layer % layersPerRow) * (cols * size + LAYER_GAP) + col * size;
+        int y = originY(size) + (layer / layersPerRow) * (rows * size + LAYER_GAP) + row * size;
+        return new Rectangle(x, y, size, size);
+    }
+
+    /**
+     * Célula em um ponto do componente
+     * @param x coordenada horizontal
+     * @param y coordenada vertical
+     * @return índice da célula, ou -1 fora do tabuleiro (margens e espaço entre camadas)
+     */
+    public int cellAt(int x, int y) {
+        int size = cellSize();
+        int layerWidth = cols * size + LAYER_GAP;
+        int layerHeight = rows * size + LAYER_GAP;
+        int dx = x - originX(size);
+        int dy = y - originY(size);
+        if (dx < 0 || dy < 0) return -1;
+        int layerCol = dx / layerWidth;
+        int layerRow = dy / layerHeight;
+        int col = (dx % layerWidth) / size;
+        int row = (dy % layerHeight) / size;
+        int layer = layerRow * layersPerRow + layerCol;
+        if (layerCol >= layersPerRow || layer >= layers || col >= cols || row >= rows) return -1;
+        return layer * rows * cols + row * cols + col;
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        Graphics2D g = (Graphics2D) graphics;
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        g.setColor(BACKGROUND);
+        g.fill(clip);
+
+        int size = cellSize();
+        Stroke symbolStroke = new BasicStroke(Math.max(2f, size / 10f), BasicStroke.CAP_ROUND,
+                BasicStroke.JOIN_ROUND);
+        // Só as células que cruzam a área a redesenhar
+        for (int layer = 0; layer < layers; layer++) {
+            Rectangle first = cellBounds(layer * rows * cols);
+            Rectangle layerBounds = new Rectangle(first.x, first.y, cols * size, rows * size);
+            if (!layerBounds.intersects(clip)) continue;
+            int firstRow = Math.max(0, (clip.y - first.y) / size);
+            int lastRow = Math.min(rows - 1, (clip.y + clip.height - first.y) / size);
+            int firstCol = Math.max(0, (clip.x - first.x) / size);
+            int lastCol = Math.min(cols - 1, (clip.x + clip.width - first.x) / size);
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int col = firstCol; col <= lastCol; col++) {
+                    int cell = layer * rows * cols + row * cols + col;
+                    paintCell(g, cell, first.x + col * size, first.y + row * size, size, symbolStroke);
+                }
+            }
+        }
+    }
+
+    private void paintCell(Graphics2D g, int cell, int x, int y, int size, Stroke symbolStroke) {
+        if (cell == lastMove) {
+            g.setColor(LAST_MOVE);
+            g.fillRect(x, y, size, size);
+        }
+        g.setStroke(GRID_STROKE);
+        g.setColor(GRID);
+        g.drawRect(x, y, size - 1, size - 1);
+        g.setStroke(symbolStroke);
+
+        int margin = size / 5;
+        if (cells[cell] == TicTacToe.Cell.X) {
+            g.setColor(X_COLOR);
+            g.drawLine(x + margin, y + margin, x + size - margin, y + size - margin);
+            g.drawLine(x + size - margin, y + margin, x + margin, y + size - margin);
+        } else if (cells[cell] == TicTacToe.Cell.O) {
+            g.setColor(O_COLOR);
+            g.drawOval(x + margin, y + margin, size - 2 * margin, size - 2 * margin);
+        }
+    }
+
+    /**
+     * Obtém o conteúdo exibido em uma célula
+     * @param cell índice da célula
+     * @return X, O ou EMPTY
+     */
+    public TicTacToe.Cell getCell(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * @return células redesenhadas desde a criação (para medir o custo por jogada)
+     */
+    public long getRepaintedCells() {
+        return repaintedCells;
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Interface ComputerStrategy - Estratégia de jogada do computador
+ * Permite trocar o algoritmo usado pelo modo contra computador
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public interface ComputerStrategy {
+    
+    /**
+     * Escolhe a jogada para o jogador atual do jogo.
+     * A estratégia apenas consulta o jogo, sem alterá-lo.
+     * @param game jogo em andamento (não terminado)
+     * @return índice da célula escolhida (row * cols + col)
+     */
+    int chooseMove(TicTacToe game);
+    
+    /**
+     * Obtém as estatísticas da última chamada a chooseMove
+     * @return estatísticas da última busca
+     */
+    SearchStats getLastStats();
+}
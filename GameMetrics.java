@@ -0,0 +1,178 @@
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Classe GameMetrics - Métricas de jogadas, partidas e buscas do computador
+ * Contadores em LongAdder e histogramas logarítmicos, expostos via JMX
+ * (jogodavelha:type=GameMetrics) e em texto. Desligadas por padrão: com
+ * ENABLED falso (constante), o JIT elimina as chamadas nos pontos de medição.
+ *
+ * Propriedades do sistema:
+ *   -Djogodavelha.metricas=true               liga as métricas
+ *   -Djogodavelha.metricas.intervalo=segundos imprime as métricas periodicamente
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class GameMetrics implements GameMetricsMBean {
+
+    public static final boolean ENABLED = Boolean.getBoolean("jogodavelha.metricas");
+
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    static {
+        if (ENABLED) {
+            INSTANCE.registerMBean();
+            long interval = Long.getLong("jogodavelha.metricas.intervalo", 0);
+            if (interval > 0) {
+                INSTANCE.startDump(interval, System.err);
+            }
+        }
+    }
+
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder invalidMoves = new LongAdder();
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder xWins = new LongAdder();
+    private final LongAdder oWins = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder cacheProbes = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LogHistogram computerMoveNanos = new LogHistogram();
+    private final LogHistogram nodes = new LogHistogram();
+    private ScheduledExecutorService dumper;
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Obtém as métricas do processo
+     * @return instância única
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    // Pontos de medição (chamados só quando ENABLED)
+
+    public void recordGameStarted() {
+        gamesStarted.increment();
+    }
+
+    /**
+     * Registra o resultado de makeMove
+     * @param valid true se a jogada foi aceita
+     */
+    public void recordMove(boolean valid) {
+        (valid ? moves : invalidMoves).increment();
+    }
+
+    /**
+     * Registra o fim de uma partida
+     * @param winner vencedor, ou EMPTY no empate
+     */
+    public void recordGameOver(TicTacToe.Cell winner) {
+        (winner == TicTacToe.Cell.X ? xWins : winner == TicTacToe.Cell.O ? oWins : draws).increment();
+    }
+
+    /**
+     * Registra uma jogada do computador
+     * @param elapsedNanos tempo de escolha da jogada
+     * @param searchedNodes nós visitados pela busca
+     */
+    public void recordComputerMove(long elapsedNanos, long searchedNodes) {
+        computerMoveNanos.record(elapsedNanos);
+        nodes.record(searchedNodes);
+    }
+
+    /**
+     * Registra consultas a uma tabela de transposição ou banco de posições
+     * @param probes consultas
+     * @param hits consultas que encontraram a posição
+     */
+    public void recordCache(long probes, long hits) {
+        cacheProbes.add(probes);
+        cacheHits.add(hits);
+    }
+
+    // Atributos JMX
+
+    @Override public long getMoves() { return moves.sum(); }
+    @Override public long getInvalidMoves() { return invalidMoves.sum(); }
+    @Override public long getGamesStarted() { return gamesStarted.sum(); }
+    @Override public long getXWins() { return xWins.sum(); }
+    @Override public long getOWins() { return oWins.sum(); }
+    @Override public long getDraws() { return draws.sum(); }
+    @Override public long getComputerMoves() { return computerMoveNanos.getCount(); }
+    @Override public double getComputerMoveMeanMicros() { return computerMoveNanos.getMean() / 1000; }
+    @Override public long getComputerMoveP50Micros() { return computerMoveNanos.getPercentile(50) / 1000; }
+    @Override public long getComputerMoveP99Micros() { return computerMoveNanos.getPercentile(99) / 1000; }
+    @Override public long getComputerMoveMaxMicros() { return computerMoveNanos.getMax() / 1000; }
+    @Override public long getNodesP50() { return nodes.getPercentile(50); }
+    @Override public long getNodesP99() { return nodes.getPercentile(99); }
+    @Override public long getCacheProbes() { return cacheProbes.sum(); }
+
+    @Override
+    public double getCacheHitRate() {
+        long probes = cacheProbes.sum();
+        return (probes == 0) ? 0 : (double) cacheHits.sum() / probes;
+    }
+
+    @Override
+    public void reset() {
+        moves.reset();
+        invalidMoves.reset();
+        gamesStarted.reset();
+        xWins.reset();
+        oWins.reset();
+        draws.reset();
+        cacheProbes.reset();
+        cacheHits.reset();
+        computerMoveNanos.reset();
+        nodes.reset();
+    }
+
+    /**
+     * Registra as métricas no servidor de MBeans da plataforma
+     */
+    private void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName("jogodavelha:type=GameMetrics"));
+        } catch (JMException e) {
+            System.err.println("Métricas não registradas no JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Imprime as métricas periodicamente, em uma thread daemon
+     * @param periodSeconds intervalo entre impressões, em segundos
+     * @param out destino do texto
+     */
+    public synchronized void startDump(long periodSeconds, PrintStream out) {
+        if (dumper != null) {
+            dumper.shutdown();
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GameMetrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> out.println(this), periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("jogadas: %d (inválidas: %d) | partidas: %d (X: %d, O: %d, empates: %d) | "
+                + "computador: %d jogadas, p50 %d µs, p99 %d µs, máx %d µs, nós p50 %d, p99 %d | "
+                + "cache: %d consultas, %.1f%% acertos",
+                getMoves(), getInvalidMoves(), getGamesStarted(), getXWins(), getOWins(), getDraws(),
+                getComputerMoves(), getComputerMoveP50Micros(), getComputerMoveP99Micros(),
+                getComputerMoveMaxMicros(), getNodesP50(), getNodesP99(), getCacheProbes(), 100 * getCacheHitRate());
+    }
+}
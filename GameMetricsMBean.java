@@ -0,0 +1,44 @@
+/**
+ * Interface GameMetricsMBean - Métricas do jogo expostas via JMX
+ * Atributos lidos pelo JConsole/VisualVM em jogodavelha:type=GameMetrics
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public interface GameMetricsMBean {
+
+    long getMoves();
+
+    long getInvalidMoves();
+
+    long getGamesStarted();
+
+    long getXWins();
+
+    long getOWins();
+
+    long getDraws();
+
+    long getComputerMoves();
+
+    double getComputerMoveMeanMicros();
+
+    long getComputerMoveP50Micros();
+
+    long getComputerMoveP99Micros();
+
+    long getComputerMoveMaxMicros();
+
+    long getNodesP50();
+
+    long getNodesP99();
+
+    long getCacheProbes();
+
+    double getCacheHitRate();
+
+    /**
+     * Zera todas as métricas
+     */
+    void reset();
+}
@@ -0,0 +1,112 @@
+/**
+ * Interface GamePosition - Posição de um jogo de k em linha para as buscas
+ * Permite que os mesmos algoritmos de busca joguem em tabuleiros diferentes
+ * (m x n com k em linha, 4x4x4) fazendo e desfazendo jogadas sem alocar
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public interface GamePosition {
+    
+    // Jogadores (mesma ordem de TicTacToe.Cell)
+    int X = 0;
+    int O = 1;
+    int EMPTY = 2;
+    
+    /**
+     * @return número de células do tabuleiro
+     */
+    int cellCount();
+    
+    /**
+     * @param cell índice da célula
+     * @return true se a célula está vazia
+     */
+    boolean isEmpty(int cell);
+    
+    /**
+     * @return jogador da vez (X ou O)
+     */
+    int sideToMove();
+    
+    /**
+     * @return número de jogadas feitas
+     */
+    int moveCount();
+    
+    /**
+     * Faz uma jogada do jogador da vez em uma célula vazia
+     * @param cell índice da célula
+     */
+    void play(int cell);
+    
+    /**
+     * Desfaz a última jogada. Não verifica se há jogada a desfazer: as buscas
+     * só chamam após play(), e com o tabuleiro vazio o resultado é indefinido
+     */
+    void undo();
+    
+    /**
+     * @return true se a última jogada completou uma linha
+     */
+    boolean isWon();
+    
+    /**
+     * @return true se todas as células estão ocupadas
+     */
+    boolean isFull();
+    
+    /**
+     * Avaliação heurística da posição
+     * @return valor para o jogador da vez (positivo é bom para ele)
+     */
+    int evaluate();
+    
+    /**
+     * Gera as jogadas candidatas, das mais promissoras para as menos
+     * @param moves vetor com pelo menos cellCount() posições
+     * @return número de jogadas geradas
+     */
+    int generateMoves(int[] moves);
+    
+    /**
+     * @return cópia independente da posição
+     */
+    GamePosition copy();
+    
+    /**
+     * Hash de Zobrist da posição, atualizado a cada jogada e desfeita, sem
+     * percorrer o tabuleiro. Depende só das células ocupadas (e das dimensões
+     * do tabuleiro) e as chaves são geradas de forma determinística, então é
+     * estável entre execuções e serve de chave em tabelas de transposição,
+     * arquivos e bancos de posições
+     * @return hash de 64 bits da posição
+     */
+    long positionHash();
+    
+    /**
+     * Gera as chaves de Zobrist de um tipo de tabuleiro
+     * @param emptyHash hash do tabuleiro vazio (identifica o tipo de tabuleiro)
+     * @param cells número de células
+     * @return chaves indexadas por 2 * célula + jogador
+     */
+    static long[] zobristKeys(long emptyHash, int cells) {
+        long[] keys = new long[2 * cells];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = mix(emptyHash + i + 1);
+        }
+        return keys;
+    }
+    
+    /**
+     * Embaralha os bits de um valor (finalizador do SplitMix64)
+     * @param value valor de entrada
+     * @return valor embaralhado
+     */
+    static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,176 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Classe GameRecordReader - Leitura em fluxo de partidas gravadas por GameRecordWriter
+ * Lê uma partida por vez em memória constante, de um InputStream ou de um
+ * arquivo mapeado em memória (em janelas, para arquivos de vários GB).
+ * Cada partida é conferida ao ser lida: células de 0 a 8, sem repetição,
+ * nenhuma jogada depois do fim e resultado igual ao da partida reproduzida.
+ *
+ * Uso:
+ *   while (reader.next()) { reader.replay(game); ... }
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class GameRecordReader implements Closeable {
+
+    private static final int STREAM_BUFFER = 1 << 16; // Buffer da leitura em fluxo
+    private static final long MAPPED_WINDOW = 1L << 28; // Janela mapeada (256 MB)
+
+    private final ReadableByteChannel stream; // Leitura em fluxo (null se mapeado)
+    private final FileChannel file; // Leitura mapeada (null em fluxo)
+    private ByteBuffer buffer;
+    private long windowStart; // Posição da janela mapeada no arquivo
+    private final int[] moves = new int[9];
+    private final MnkBoard check = new MnkBoard(3, 3, 3); // Reprodução para conferir a partida
+    private int moveCount;
+    private int result;
+    private long recordsRead;
+
+    /**
+     * Construtor para leitura em fluxo
+     * @param input origem das partidas
+     */
+    public GameRecordReader(InputStream input) {
+        stream = Channels.newChannel(input);
+        file = null;
+        buffer = ByteBuffer.allocate(STREAM_BUFFER);
+        buffer.flip();
+    }
+
+    private GameRecordReader(FileChannel file) {
+        stream = null;
+        this.file = file;
+        buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Abre um arquivo para leitura sequencial mapeada em memória
+     * @param path arquivo de partidas
+     * @return leitor do arquivo
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    public static GameRecordReader mapped(Path path) throws IOException {
+        return new GameRecordReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Avança para a próxima partida
+     * @return true se leu uma partida, false no fim dos dados
+     * @throws IOException se a leitura falhar ou os dados estiverem corrompidos
+     */
+    public boolean next() throws IOException {
+        if (buffer.remaining() < GameRecordWriter.MAX_RECORD_BYTES) {
+            refill();
+            if (!buffer.hasRemaining()) {
+                return false;
+            }
+        }
+
+        int header = buffer.get() & 0xFF;
+        moveCount = header & 0xF;
+        result = (header >> 4) & 0x3;
+        if (moveCount > 9 || (header & 0xC0) != 0) {
+            throw new IOException("Partida corrompida após " + recordsRead + " partidas");
+        }
+        int length = (moveCount + 1) / 2;
+        if (buffer.remaining() < length) {
+            throw new IOException("Partida incompleta no fim dos dados");
+        }
+        for (int ply = 0; ply < moveCount; ply += 2) {
+            int packed = buffer.get() & 0xFF;
+            moves[ply] = packed & 0xF;
+            if (ply + 1 < moveCount) {
+                moves[ply + 1] = packed >> 4;
+            }
+        }
+        if (!isValidRecord()) {
+            throw new IOException("Partida corrompida após " + recordsRead + " partidas");
+        }
+        recordsRead++;
+        return true;
+    }
+
+    /**
+     * Reproduz a partida atual em um tabuleiro auxiliar e confere as jogadas e o resultado
+     */
+    private boolean isValidRecord() {
+        check.clear();
+        for (int ply = 0; ply < moveCount; ply++) {
+            int cell = moves[ply];
+            if (cell >= 9 || !check.isEmpty(cell) || check.isWon()) {
+                return false;
+            }
+            check.play(cell);
+        }
+        int outcome;
+        if (check.isWon()) {
+            outcome = (check.getWinner() == GamePosition.X) ? GameRecordWriter.X_WINS : GameRecordWriter.O_WINS;
+        } else {
+            outcome = check.isFull() ? GameRecordWriter.TIE : GameRecordWriter.IN_PROGRESS;
+        }
+        return outcome == result;
+    }
+
+    /**
+     * Garante pelo menos uma partida completa no buffer, se houver dados
+     */
+    private void refill() throws IOException {
+        if (file != null) {
+            // Mapeia a próxima janela a partir do primeiro byte ainda não lido
+            windowStart += buffer.position();
+            long size = Math.min(MAPPED_WINDOW, file.size() - windowStart);
+            buffer = file.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+        } else {
+            buffer.compact();
+            while (buffer.position() < GameRecordWriter.MAX_RECORD_BYTES && stream.read(buffer) >= 0) {
+                // Lê até ter uma partida completa ou acabar o fluxo
+            }
+            buffer.flip();
+        }
+    }
+
+    /**
+     * Reproduz a partida atual em um jogo, a partir do tabuleiro vazio
+     * (as jogadas já foram conferidas em next())
+     * @param game jogo 3x3 (é reiniciado)
+     */
+    public void replay(TicTacToe game) {
+        game.resetGame();
+        for (int ply = 0; ply < moveCount; ply++) {
+            game.play(moves[ply]);
+        }
+    }
+
+    /**
+     * Obtém uma jogada da partida atual
+     * @param ply número da jogada (0 é a primeira)
+     * @return índice da célula (row * 3 + col)
+     */
+    public int getMove(int ply) {
+        return moves[ply];
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            file.close();
+        } else {
+            stream.close();
+        }
+    }
+
+    // Getters
+    public int getMoveCount() { return moveCount; }
+    public int getResult() { return result; }
+    public long getRecordsRead() { return recordsRead; }
+}
@@ -0,0 +1,92 @@
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Classe GameRecordWriter - Gravação compacta de partidas 3x3 em formato binário
+ * Cada partida ocupa um byte de cabeçalho e meio byte por jogada (no máximo
+ * 6 bytes). As partidas são gravadas em sequência, sem índice, então arquivos
+ * podem ser concatenados e lidos em fluxo por GameRecordReader.
+ *
+ * Cabeçalho: bits 0-3 número de jogadas, bits 4-5 resultado (0 em andamento,
+ * 1 vitória de X, 2 vitória de O, 3 empate), bits 6-7 zerados.
+ * Jogadas: índice da célula (row * 3 + col), a primeira no meio byte baixo.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class GameRecordWriter implements Closeable {
+
+    // Resultados no cabeçalho
+    public static final int IN_PROGRESS = 0;
+    public static final int X_WINS = 1;
+    public static final int O_WINS = 2;
+    public static final int TIE = 3;
+
+    static final int MAX_RECORD_BYTES = 6; // Cabeçalho + 9 jogadas em meios bytes
+
+    private final OutputStream output;
+    private final byte[] record = new byte[MAX_RECORD_BYTES];
+    private long recordsWritten;
+    private long bytesWritten;
+
+    /**
+     * Construtor
+     * @param output destino das partidas (recebe um buffer próprio)
+     */
+    public GameRecordWriter(OutputStream output) {
+        this.output = new BufferedOutputStream(output, 1 << 16);
+    }
+
+    /**
+     * Grava as jogadas feitas até agora em uma partida
+     * @param game partida no tabuleiro clássico
+     * @throws IOException se a gravação falhar
+     * @throws IllegalArgumentException se o tabuleiro não é 3x3
+     */
+    public void write(TicTacToe game) throws IOException {
+        if (!game.isClassicBoard()) {
+            throw new IllegalArgumentException("O formato só grava partidas 3x3");
+        }
+        MnkBoard board = game.getBoard();
+        int count = board.getMoveCount();
+        record[0] = (byte) (count | result(game) << 4);
+        for (int i = 1; i < MAX_RECORD_BYTES; i++) {
+            record[i] = 0;
+        }
+        for (int ply = 0; ply < count; ply++) {
+            record[1 + ply / 2] |= (byte) (board.getMove(ply) << ((ply % 2) * 4));
+        }
+        int length = 1 + (count + 1) / 2;
+        output.write(record, 0, length);
+        recordsWritten++;
+        bytesWritten += length;
+    }
+
+    /**
+     * Resultado de uma partida no código do cabeçalho
+     */
+    static int result(TicTacToe game) {
+        if (game.isGameWon()) return game.getWinner() == TicTacToe.Cell.X ? X_WINS : O_WINS;
+        if (game.isGameTied()) return TIE;
+        return IN_PROGRESS;
+    }
+
+    /**
+     * Grava o que estiver no buffer
+     * @throws IOException se a gravação falhar
+     */
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    // Getters
+    public long getRecordsWritten() { return recordsWritten; }
+    public long getBytesWritten() { return bytesWritten; }
+}
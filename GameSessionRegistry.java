@@ -0,0 +1,171 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Classe GameSessionRegistry - Registro de partidas compartilhado entre threads
+ * Cria, localiza e expira partidas por identificador. O mapa é concorrente
+ * (sem trava global) e cada partida tem a sua própria trava: jogadas na mesma
+ * partida acontecem uma de cada vez, partidas diferentes andam em paralelo.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class GameSessionRegistry {
+
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000L; // 30 minutos
+
+    /**
+     * Partida registrada; o próprio objeto é a trava da partida
+     */
+    private static final class Session {
+        final TicTacToe game;
+        volatile long lastAccessNanos; // Última operação, para a expiração
+        boolean closed; // Removida do registro (protegido pela trava)
+
+        Session(TicTacToe game) {
+            this.game = game;
+            this.lastAccessNanos = System.nanoTime();
+        }
+    }
+
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final long idleTimeoutNanos;
+
+    /**
+     * Construtor com o tempo de inatividade padrão
+     */
+    public GameSessionRegistry() {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Construtor
+     * @param idleTimeoutMillis tempo sem operações após o qual a partida expira
+     */
+    public GameSessionRegistry(long idleTimeoutMillis) {
+        this.idleTimeoutNanos = idleTimeoutMillis * 1000000L;
+    }
+
+    /**
+     * Registra uma nova partida para dois jogadores no tabuleiro clássico
+     * @return identificador da partida
+     */
+    public long create() {
+        return register(new TicTacToe());
+    }
+
+    /**
+     * Registra uma partida já criada (por exemplo, contra o computador).
+     * Depois de registrada, a partida só deve ser acessada pelo registro.
+     * @param game partida
+     * @return identificador da partida
+     */
+    public long register(TicTacToe game) {
+        long id = nextId.getAndIncrement();
+        sessions.put(id, new Session(game));
+        return id;
+    }
+
+    /**
+     * Executa uma operação na partida com a trava dela
+     * @param id identificador da partida
+     * @param action operação sobre a partida
+     * @return resultado da operação
+     * @throws NoSuchElementException se a partida não existe ou expirou
+     */
+    public <T> T withGame(long id, Function<TicTacToe, T> action) {
+        Session session = sessions.get(id);
+        if (session == null) {
+            throw new NoSuchElementException("Partida inexistente: " + id);
+        }
+        synchronized (session) {
+            if (session.closed) {
+                throw new NoSuchElementException("Partida encerrada: " + id);
+            }
+            session.lastAccessNanos = System.nanoTime();
+            return action.apply(session.game);
+        }
+    }
+
+    /**
+     * Faz uma jogada na partida
+     * @param id identificador da partida
+     * @param row linha (0-based)
+     * @param col coluna (0-based)
+     * @return true se a jogada foi válida, false caso contrário
+     * @throws NoSuchElementException se a partida não existe ou expirou
+     */
+    public boolean makeMove(long id, int row, int col) {
+        return withGame(id, game -> game.makeMove(row, col));
+    }
+
+    /**
+     * Obtém uma cópia consistente da partida, que pode ser lida sem trava
+     * @param id identificador da partida
+     * @return cópia da partida
+     * @throws NoSuchElementException se a partida não existe ou expirou
+     */
+    public TicTacToe snapshot(long id) {
+        return withGame(id, TicTacToe::new);
+    }
+
+    /**
+     * Remove a partida do registro
+     * @param id identificador da partida
+     * @return true se a partida existia
+     */
+    public boolean remove(long id) {
+        Session session = sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        synchronized (session) {
+            session.closed = true;
+        }
+        return true;
+    }
+
+    /**
+     * Remove as partidas sem operações há mais tempo que o limite; pode ser
+     * chamado periodicamente por qualquer thread
+     * @return número de partidas expiradas
+     */
+    public int expireIdle() {
+        long now = System.nanoTime();
+        int expired = 0;
+        Iterator<Session> it = sessions.values().iterator();
+        while (it.hasNext()) {
+            Session session = it.next();
+            if (now - session.lastAccessNanos > idleTimeoutNanos) {
+                synchronized (session) {
+                    // Confere de novo: uma jogada pode ter chegado antes da trava
+                    if (now - session.lastAccessNanos > idleTimeoutNanos) {
+                        session.closed = true;
+                        it.remove();
+                        expired++;
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @param id identificador da partida
+     * @return true se a partida está registrada
+     */
+    public boolean contains(long id) {
+        return sessions.containsKey(id);
+    }
+
+    /**
+     * @return número de partidas registradas
+     */
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Classe GameSimulator - Simulador de partidas sem interface
+ * Joga muitas partidas entre duas estratégias usando todos os núcleos, com
+ * um tabuleiro e um par de estratégias reaproveitados por tarefa
+ * 
+ * Uso: java GameSimulator partidas estrategiaA estrategiaB [threads] [linhas colunas k]
+ * Estratégias: aleatoria, heuristica, iterativa, mcts, negamax, tabela
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class GameSimulator {
+    
+    /**
+     * Resultado de uma simulação, do ponto de vista da estratégia A
+     */
+    public static class Result {
+        private final long wins; // Vitórias da estratégia A
+        private final long draws; // Empates
+        private final long losses; // Derrotas da estratégia A
+        private final long elapsedNanos; // Tempo total da simulação
+        
+        Result(long wins, long draws, long losses, long elapsedNanos) {
+            this.wins = wins;
+            this.draws = draws;
+            this.losses = losses;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        // Getters
+        public long getWins() { return wins; }
+        public long getDraws() { return draws; }
+        public long getLosses() { return losses; }
+        public long getGames() { return wins + draws + losses; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        
+        /**
+         * @return partidas por segundo
+         */
+        public double getGamesPerSecond() {
+            return getGames() * 1e9 / Math.max(1, elapsedNanos);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d partidas em %d ms (%.0f partidas/s) | vitórias: %d, empates: %d, derrotas: %d",
+                    getGames(), elapsedNanos / 1000000, getGamesPerSecond(), wins, draws, losses);
+        }
+    }
+    
+    private final int rows; // Dimensões do tabuleiro simulado
+    private final int cols;
+    private final int winLength;
+    private final int threads; // Tarefas paralelas
+    
+    /**
+     * Construtor para o tabuleiro clássico usando todos os núcleos
+     */
+    public GameSimulator() {
+        this(3, 3, 3, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Construtor
+     * @param rows número de linhas
+     * @param cols número de colunas
+     * @param winLength quantidade de símbolos em linha para vencer
+     * @param threads número de tarefas paralelas
+     */
+    public GameSimulator(int rows, int cols, int winLength, int threads) {
+        this.rows = rows;
+        this.cols = cols;
+        this.winLength = winLength;
+        this.threads = threads;
+    }
+    
+    /**
+     * Joga as partidas, alternando quem começa: nas partidas pares
+     * a estratégia A joga com X
+     * @param games número de partidas
+     * @param strategyA cria uma instância da estratégia A por tarefa
+     * @param strategyB cria uma instância da estratégia B por tarefa
+     * @return resultado do ponto de vista da estratégia A
+     */
+    public Result simulate(long games, Supplier<ComputerStrategy> strategyA,
+            Supplier<ComputerStrategy> strategyB) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<long[]>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                // Divide as partidas; as primeiras tarefas ficam com o resto
+                long first = games * t / threads;
+                long last = games * (t + 1) / threads;
+                tasks.add(pool.submit(() -> playGames(first, last, strategyA.get(), strategyB.get())));
+            }
+            
+            long[] totals = new long[3];
+            for (ForkJoinTask<long[]> task : tasks) {
+                long[] counts = task.join();
+                for (int i = 0; i < totals.length; i++) totals[i] += counts[i];
+            }
+            return new Result(totals[0], totals[1], totals[2], System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    /**
+     * Joga as partidas [first, last) em um único tabuleiro
+     * @return vitórias, empates e derrotas da estratégia A
+     */
+    private long[] playGames(long first, long last, ComputerStrategy a, ComputerStrategy b) {
+        TicTacToe game = new TicTacToe(rows, cols, winLength);
+        long[] counts = new long[3];
+        for (long g = first; g < last; g++) {
+            game.resetGame();
+            ComputerStrategy x = (g % 2 == 0) ? a : b;
+            ComputerStrategy o = (g % 2 == 0) ? b : a;
+            while (!game.isGameOver()) {
+                game.play((game.getCurrentPlayer() == TicTacToe.Cell.X ? x : o).chooseMove(game));
+            }
+            
+            if (game.isGameTied()) {
+                counts[1]++;
+            } else if ((game.getWinner() == TicTacToe.Cell.X) == (g % 2 == 0)) {
+                counts[0]++;
+            } else {
+                counts[2]++;
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * Obtém a fábrica de uma estratégia pelo nome
+     * @param name aleatoria, heuristica, iterativa, mcts, negamax ou tabela
+     * @return fábrica da estratégia
+     */
+    public static Supplier<ComputerStrategy> strategyByName(String name) {
+        switch (name.toLowerCase()) {
+            case "aleatoria": return RandomStrategy::new;
+            case "heuristica": return HeuristicStrategy::new;
+            case "iterativa": return IterativeDeepeningSearch::new;
+            // Uma thread por árvore: o simulador já ocupa os núcleos com partidas
+            case "mcts": return () -> new MctsEngine(1, MctsEngine.DEFAULT_TIME_MILLIS);
+            case "negamax": return NegamaxEngine::new;
+            case "tabela": return SolvedTable::new;
+            default: throw new IllegalArgumentException("Estratégia desconhecida: " + name);
+        }
+    }
+    
+    public static void main(String[] args) {
+        if (args.length != 3 && args.length != 4 && args.length != 7) {
+            System.out.println("Uso: java GameSimulator partidas estrategiaA estrategiaB [threads] [linhas colunas k]");
+            System.out.println("Estratégias: aleatoria, heuristica, iterativa, mcts, negamax, tabela");
+            return;
+        }
+        
+        long games = Long.parseLong(args[0]);
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int rows = (args.length > 4) ? Integer.parseInt(args[4]) : 3;
+        int cols = (args.length > 4) ? Integer.parseInt(args[5]) : 3;
+        int winLength = (args.length > 4) ? Integer.parseInt(args[6]) : 3;
+        
+        boolean classic = rows == 3 && cols == 3 && winLength == 3;
+        for (int i = 1; i <= 2; i++) {
+            if (!classic && (args[i].equalsIgnoreCase("negamax") || args[i].equalsIgnoreCase("tabela"))) {
+                System.out.println("A estratégia " + args[i] + " só joga no tabuleiro 3x3");
+                return;
+            }
+        }
+        
+        GameSimulator simulator = new GameSimulator(rows, cols, winLength, threads);
+        System.out.println("=== SIMULAÇÃO: " + args[1] + " vs " + args[2] + " (" + rows + "x" + cols
+                + ", " + winLength + " em linha, " + threads + " threads) ===");
+        Result result = simulator.simulate(games, strategyByName(args[1]), strategyByName(args[2]));
+        System.out.println(result);
+    }
+}
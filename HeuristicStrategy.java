@@ -0,0 +1,81 @@
+/**
+ * Classe HeuristicStrategy - Estratégia básica do computador
+ * Tenta ganhar, bloqueia o oponente e depois prioriza centro, cantos e bordas
+ * (em tabuleiros maiores, as células mais próximas do centro)
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class HeuristicStrategy implements ComputerStrategy {
+    
+    private static final int[] CLASSIC_PREFERENCE = {4, 0, 2, 6, 8, 1, 3, 5, 7}; // Centro, cantos, bordas
+    
+    private final SearchStats stats = new SearchStats();
+    
+    @Override
+    public int chooseMove(TicTacToe game) {
+        long start = System.nanoTime();
+        MnkBoard board = game.getBoard();
+        boolean classic = game.isClassicBoard();
+        int player = game.getCurrentPlayer().ordinal();
+        int opponent = 1 - player;
+        
+        // 1. Tenta ganhar
+        int move = findCompletingMove(board, classic, player);
+        
+        // 2. Tenta bloquear o oponente
+        if (move < 0) move = findCompletingMove(board, classic, opponent);
+        
+        // 3-5. Centro, cantos e bordas
+        for (int i = 0; move < 0 && i < board.getCellCount(); i++) {
+            int cell = preferredCell(board, classic, i);
+            if (board.isEmpty(cell)) {
+                move = cell;
+            }
+        }
+        
+        stats.record(0, System.nanoTime() - start, 0);
+        return move;
+    }
+    
+    /**
+     * Procura uma célula vazia que completa uma linha do jogador. No 3x3 as
+     * linhas são examinadas na ordem de sempre (TicTacToe.WIN_LINES);
+     * nos tabuleiros maiores, as células do centro para as bordas
+     * @param board tabuleiro
+     * @param classic true para o tabuleiro 3x3
+     * @param player X ou O
+     * @return índice da célula que completa a linha, ou -1 se não houver
+     */
+    private static int findCompletingMove(MnkBoard board, boolean classic, int player) {
+        if (classic) {
+            int bits = (int) board.getWord(player, 0);
+            int empty = ~(int) (board.getWord(MnkBoard.X, 0) | board.getWord(MnkBoard.O, 0)) & 0x1FF;
+            for (int line : TicTacToe.WIN_LINES) {
+                if (Integer.bitCount(line & bits) == 2 && (line & empty) != 0) {
+                    return Integer.numberOfTrailingZeros(line & empty);
+                }
+            }
+            return -1;
+        }
+        for (int i = 0; i < board.getCellCount(); i++) {
+            int cell = board.getCellByPreference(i);
+            if (board.isEmpty(cell) && board.wouldWin(cell, player)) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Obtém a i-ésima célula na ordem de preferência
+     */
+    private static int preferredCell(MnkBoard board, boolean classic, int index) {
+        return classic ? CLASSIC_PREFERENCE[index] : board.getCellByPreference(index);
+    }
+    
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Classe IterativeDeepeningSearch - Busca alfa-beta com aprofundamento iterativo e prazo
+ * Busca com profundidade 1, 2, 3... até o prazo acabar, guardando sempre a
+ * melhor jogada da última profundidade completa. A busca interrompida pelo
+ * prazo é descartada, então a resposta sai em tempo garantido. Se houver um
+ * banco de posições, a posição é procurada nele antes da busca; com uma
+ * tabela de transposição, as profundidades seguintes (e as jogadas
+ * seguintes) reaproveitam o que já foi analisado. Nos tabuleiros grandes,
+ * uma vitória forçada por quatros (ThreatSpaceSearch) é jogada sem a busca.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class IterativeDeepeningSearch implements ComputerStrategy {
+
+    public static final long DEFAULT_DEADLINE_MILLIS = 50; // Prazo padrão por jogada
+
+    private final long deadlineNanos; // Prazo por jogada
+    private final int maxDepth; // Profundidade máxima, em jogadas
+    private final AlphaBetaSearch search;
+    private final ThreatSpaceSearch threatSearch = new ThreatSpaceSearch();
+    private final SearchStats stats = new SearchStats();
+    private PositionDatabase database; // Posições já analisadas (opcional)
+    private TranspositionTable table; // Tabela de transposição (opcional)
+
+    /**
+     * Construtor com o prazo padrão
+     */
+    public IterativeDeepeningSearch() {
+        this(DEFAULT_DEADLINE_MILLIS);
+    }
+
+    /**
+     * Construtor
+     * @param deadlineMillis prazo para escolher cada jogada, em milissegundos
+     */
+    public IterativeDeepeningSearch(long deadlineMillis) {
+        this(deadlineMillis, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construtor com profundidade máxima
+     * @param deadlineMillis prazo para escolher cada jogada, em milissegundos
+     * @param maxDepth profundidade máxima da busca, em jogadas
+     */
+    public IterativeDeepeningSearch(long deadlineMillis, int maxDepth) {
+        this.deadlineNanos = deadlineMillis * 1000000L;
+        this.maxDepth = maxDepth;
+        this.search = new AlphaBetaSearch(1);
+    }
+
+    @Override
+    public int chooseMove(TicTacToe game) {
+        return chooseMove(new MnkBoard(game.getBoard()));
+    }
+
+    /**
+     * Escolhe a jogada para o jogador da vez dentro do prazo
+     * @param position posição (alterada durante a busca e restaurada ao final)
+     * @return índice da célula escolhida
+     */
+    public int chooseMove(GamePosition position) {
+        long start = System.nanoTime();
+        if (database != null) {
+            long entry = database.get(position.positionHash());
+            int move = PositionDatabase.getMove(entry);
+            if (GameMetrics.ENABLED) GameMetrics.get().recordCache(1, (entry != 0) ? 1 : 0);
+            if (entry != 0 && move < position.cellCount() && position.isEmpty(move)) {
+                stats.record(0, System.nanoTime() - start, PositionDatabase.getScore(entry),
+                        PositionDatabase.getDepth(entry));
+                return move;
+            }
+        }
+        long threatNodes = 0; // Nós da busca de ameaças, somados aos da alfa-beta
+        if (position instanceof MnkBoard && ((MnkBoard) position).getThreatEvaluator() != null) {
+            // Metade do prazo, no máximo; o resto fica para a busca alfa-beta
+            int move = threatSearch.findWin((MnkBoard) position, start + deadlineNanos / 2);
+            threatNodes = threatSearch.getNodes();
+            if (move >= 0) {
+                stats.record(threatSearch.getNodes(), System.nanoTime() - start,
+                        AlphaBetaSearch.WIN_SCORE - threatSearch.getWinPlies(), threatSearch.getWinPlies());
+                return move;
+            }
+        }
+        long deadline = start + deadlineNanos;
+        search.reset(position.cellCount());
+        if (table != null) {
+            table.newSearch();
+        }
+
+        int bestMove = -1;
+        int score = 0;
+        int depthReached = 0;
+        int limit = Math.min(maxDepth, position.cellCount() - position.moveCount());
+        for (int depth = 1; depth <= limit; depth++) {
+            int move = search.searchRoot(position, depth, bestMove, deadline);
+            if (search.wasAborted()) {
+                if (bestMove < 0) {
+                    bestMove = move; // Nem a profundidade 1 coube no prazo
+                }
+                break;
+            }
+            bestMove = move;
+            score = search.getRootScore();
+            depthReached = depth;
+            // Vitória ou derrota forçada: buscar mais fundo não muda o resultado
+            if (Math.abs(score) >= AlphaBetaSearch.WIN_SCORE - position.cellCount()) {
+                break;
+            }
+        }
+
+        stats.record(search.getNodes() + threatNodes, System.nanoTime() - start, score, depthReached);
+        return bestMove;
+    }
+
+    /**
+     * Define o banco de posições consultado antes de cada busca
+     * @param database banco de posições, ou null para sempre buscar
+     */
+    public void setPositionDatabase(PositionDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Define a tabela de transposição usada pela busca
+     * @param table tabela (ex: OffHeapTranspositionTable), ou null para buscar sem tabela
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+        search.setTranspositionTable(table);
+    }
+
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+}
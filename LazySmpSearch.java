@@ -0,0 +1,276 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Classe LazySmpSearch - Busca alfa-beta paralela (Lazy SMP)
+ * Todas as threads fazem o mesmo aprofundamento iterativo, cada uma sobre a
+ * sua cópia da posição, e se ajudam só pela tabela de transposição
+ * compartilhada (sem travas): o que uma thread já analisou vira corte ou
+ * boa ordenação para as outras. As auxiliares de índice ímpar começam uma
+ * profundidade adiante, para não andarem em passo com a principal. A
+ * resposta é a da thread que completou a maior profundidade (a principal
+ * nos empates); quando ela termina, as demais param. A tabela padrão fica
+ * fora do heap, com o tamanho de -Djogodavelha.tabelaMB (16 MB se ausente).
+ * Nos tabuleiros grandes, uma vitória forçada por quatros é procurada antes
+ * (ThreatSpaceSearch), em uma cópia da posição. As auxiliares rodam em um
+ * ForkJoinPool criado com a busca e reaproveitado a cada jogada; close()
+ * encerra o pool e solta a tabela, cuja memória fora do heap só volta
+ * quando o coletor a recolhe. Por isso uma instância deve servir a partida
+ * inteira, e não ser criada a cada jogada.
+ *
+ * Uso: java LazySmpSearch [profundidade] [max_threads]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class LazySmpSearch implements ComputerStrategy, AutoCloseable {
+
+    public static final int DEFAULT_TABLE_MB = Integer.getInteger("jogodavelha.tabelaMB", 16);
+
+    private final int threads;
+    private final long deadlineNanos; // Prazo por jogada
+    private final int maxDepth; // Profundidade máxima, em jogadas
+    private TranspositionTable table; // null após close()
+    private final AlphaBetaSearch[] searches; // Uma busca por thread
+    private final ForkJoinPool pool; // Threads auxiliares (null com uma thread)
+    private final ThreatSpaceSearch threatSearch = new ThreatSpaceSearch();
+    private final SearchStats stats = new SearchStats();
+
+    // Resultado de cada thread: maior profundidade completa, jogada e valor
+    private final int[] completedDepth;
+    private final int[] bestMoves;
+    private final int[] scores;
+
+    /**
+     * Construtor usando todos os núcleos e o prazo padrão
+     */
+    public LazySmpSearch() {
+        this(Runtime.getRuntime().availableProcessors(), IterativeDeepeningSearch.DEFAULT_DEADLINE_MILLIS);
+    }
+
+    /**
+     * Construtor
+     * @param threads número de threads
+     * @param deadlineMillis prazo para escolher cada jogada, em milissegundos
+     */
+    public LazySmpSearch(int threads, long deadlineMillis) {
+        this(threads, deadlineMillis, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construtor com profundidade máxima
+     * @param threads número de threads
+     * @param deadlineMillis prazo para escolher cada jogada, em milissegundos
+     * @param maxDepth profundidade máxima da busca, em jogadas
+     */
+    public LazySmpSearch(int threads, long deadlineMillis, int maxDepth) {
+        this(threads, deadlineMillis, maxDepth, new OffHeapTranspositionTable(DEFAULT_TABLE_MB));
+    }
+
+    /**
+     * Construtor com tabela de transposição própria
+     * @param threads número de threads
+     * @param deadlineMillis prazo para escolher cada jogada, em milissegundos
+     * @param maxDepth profundidade máxima da busca, em jogadas
+     * @param table tabela compartilhada pelas threads (mantida entre jogadas)
+     */
+    public LazySmpSearch(int threads, long deadlineMillis, int maxDepth, TranspositionTable table) {
+        this.threads = threads;
+        this.deadlineNanos = deadlineMillis * 1000000L;
+        this.maxDepth = maxDepth;
+        this.table = table;
+        this.searches = new AlphaBetaSearch[threads];
+        for (int t = 0; t < threads; t++) {
+            searches[t] = new AlphaBetaSearch(1);
+            searches[t].setTranspositionTable(table);
+        }
+        this.completedDepth = new int[threads];
+        this.bestMoves = new int[threads];
+        this.scores = new int[threads];
+        this.pool = (threads > 1) ? new ForkJoinPool(threads - 1) : null;
+    }
+
+    @Override
+    public int chooseMove(TicTacToe game) {
+        return chooseMove(new MnkBoard(game.getBoard()));
+    }
+
+    /**
+     * Escolhe a jogada para o jogador da vez dentro do prazo
+     * @param position posição (não é alterada; cada thread usa uma cópia)
+     * @return índice da célula escolhida
+     */
+    public int chooseMove(GamePosition position) {
+        long start = System.nanoTime();
+        long threatNodes = 0; // Nós da busca de ameaças, somados aos da alfa-beta
+        if (position instanceof MnkBoard && ((MnkBoard) position).getThreatEvaluator() != null) {
+            // Metade do prazo, no máximo; o resto fica para a busca alfa-beta
+            int move = threatSearch.findWin(((MnkBoard) position).copy(), start + deadlineNanos / 2);
+            threatNodes = threatSearch.getNodes();
+            if (move >= 0) {
+                stats.record(threatSearch.getNodes(), System.nanoTime() - start,
+                        AlphaBetaSearch.WIN_SCORE - threatSearch.getWinPlies(), threatSearch.getWinPlies());
+                return move;
+            }
+        }
+        long deadline = start + deadlineNanos;
+        int limit = Math.min(maxDepth, position.cellCount() - position.moveCount());
+        table.newSearch();
+        for (AlphaBetaSearch search : searches) {
+            search.clearStop();
+        }
+
+        if (threads == 1) {
+            iterate(0, position.copy(), limit, deadline);
+        } else {
+            List<ForkJoinTask<?>> helpers = new ArrayList<>();
+            try {
+                for (int t = 1; t < threads; t++) {
+                    final int id = t;
+                    GamePosition copy = position.copy();
+                    helpers.add(pool.submit(() -> iterate(id, copy, limit, deadline)));
+                }
+                iterate(0, position.copy(), limit, deadline);
+            } finally {
+                // Mesmo se a principal falhar, nenhuma auxiliar segue rodando
+                // para a próxima jogada
+                for (AlphaBetaSearch search : searches) {
+                    search.stop();
+                }
+                for (ForkJoinTask<?> helper : helpers) {
+                    helper.join();
+                }
+            }
+        }
+
+        int best = 0;
+        long nodes = threatNodes;
+        for (int t = 0; t < threads; t++) {
+            nodes += searches[t].getNodes();
+            if (completedDepth[t] > completedDepth[best]) {
+                best = t;
+            }
+        }
+        stats.record(nodes, System.nanoTime() - start, scores[best], completedDepth[best]);
+        return bestMoves[best];
+    }
+
+    /**
+     * Aprofundamento iterativo de uma thread
+     * @param id índice da thread (0 é a principal)
+     * @param position cópia da posição, exclusiva da thread
+     * @param limit profundidade máxima
+     * @param deadline instante-limite em System.nanoTime()
+     */
+    private void iterate(int id, GamePosition position, int limit, long deadline) {
+        AlphaBetaSearch search = searches[id];
+        search.reset(position.cellCount());
+        completedDepth[id] = 0;
+        bestMoves[id] = -1;
+        scores[id] = 0;
+        for (int depth = 1 + (id & 1); depth <= limit; depth++) {
+            int move = search.searchRoot(position, depth, bestMoves[id], deadline);
+            if (search.wasAborted()) {
+                if (bestMoves[id] < 0) {
+                    bestMoves[id] = move; // Nem a primeira profundidade coube no prazo
+                }
+                return;
+            }
+            bestMoves[id] = move;
+            scores[id] = search.getRootScore();
+            completedDepth[id] = depth;
+            // Vitória ou derrota forçada: buscar mais fundo não muda o resultado
+            if (Math.abs(scores[id]) >= AlphaBetaSearch.WIN_SCORE - position.cellCount()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Encerra as threads auxiliares (a jogada em andamento termina normalmente)
+     * e solta a tabela de transposição; a busca não deve ser usada depois
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        table = null;
+        for (AlphaBetaSearch search : searches) {
+            search.setTranspositionTable(null);
+        }
+    }
+
+    /**
+     * @return tabela de transposição compartilhada pelas threads (null após close())
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+
+    /**
+     * Mede o tempo até a profundidade dada em um conjunto fixo de posições,
+     * com 1, 2, 4... threads, e o ganho em relação a uma thread
+     */
+    public static void main(String[] args) {
+        int depth = (args.length > 0) ? Integer.parseInt(args[0]) : 5;
+        int maxThreads = (args.length > 1) ? Integer.parseInt(args[1]) : 16;
+
+        System.out.println("=== Lazy SMP: profundidade " + depth + ", "
+                + Runtime.getRuntime().availableProcessors() + " núcleos ===");
+        List<GamePosition> suite = positionSuite();
+        System.out.printf("%8s %12s %14s %10s%n", "threads", "tempo (ms)", "nós/s", "ganho");
+        double baseline = 0;
+        OffHeapTranspositionTable table = new OffHeapTranspositionTable(DEFAULT_TABLE_MB);
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long elapsed = 0;
+            long nodes = 0;
+            for (int round = 0; round < 2; round++) { // A primeira rodada é aquecimento
+                elapsed = 0;
+                nodes = 0;
+                for (GamePosition position : suite) {
+                    // Tabela vazia em cada posição: só conta o que as threads compartilham na busca
+                    table.clear();
+                    try (LazySmpSearch search = new LazySmpSearch(threads, Long.MAX_VALUE / 2000000, depth, table)) {
+                        search.chooseMove(position);
+                        elapsed += search.getLastStats().getElapsedNanos();
+                        nodes += search.getLastStats().getNodes();
+                    }
+                }
+            }
+            if (threads == 1) baseline = elapsed;
+            System.out.printf("%8d %12.1f %14.0f %9.2fx%n", threads, elapsed / 1e6, nodes * 1e9 / elapsed,
+                    baseline / elapsed);
+        }
+        System.out.println("Tabela (última posição): " + table);
+    }
+
+    /**
+     * Posições de teste: aberturas de Gomoku 15x15, 9x9 com 4 em linha e 4x4x4
+     */
+    static List<GamePosition> positionSuite() {
+        List<GamePosition> suite = new ArrayList<>();
+        int[][] gomoku = {{112, 113, 97}, {112, 128, 96, 98}, {112, 111, 127, 97, 142}};
+        for (int[] moves : gomoku) {
+            MnkBoard board = new MnkBoard(15, 15, 5);
+            for (int move : moves) board.play(move);
+            suite.add(board);
+        }
+        MnkBoard small = new MnkBoard(9, 9, 4);
+        small.play(40);
+        small.play(41);
+        suite.add(small);
+        QubicBoard qubic = new QubicBoard();
+        qubic.play(0);
+        qubic.play(21);
+        suite.add(qubic);
+        return suite;
+    }
+}
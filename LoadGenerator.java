@@ -0,0 +1,133 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Classe LoadGenerator - Gerador de carga para o servidor do jogo
+ * Abre N conexões pela interface local, cada uma conduzida pela sua própria
+ * thread e jogando partidas contra o computador com jogadas aleatórias, e
+ * mede a vazão e a latência de ida e volta de cada jogada. Todos os clientes
+ * começam juntos, então até N jogadas ficam em andamento ao mesmo tempo e a
+ * latência inclui a fila do servidor. Sem host, inicia um servidor no
+ * próprio processo.
+ *
+ * Uso: java LoadGenerator [clientes] [jogadas_por_cliente] [host porta]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class LoadGenerator {
+
+    private static final long CLIENT_STACK = 256 * 1024; // Pilha de cada thread de cliente
+
+    /**
+     * Executa a carga
+     * @param host endereço do servidor
+     * @param port porta do servidor
+     * @param clients conexões simultâneas, uma thread por conexão
+     * @param movesPerClient jogadas feitas por conexão
+     * @return latências de cada jogada em nanossegundos, ordenadas
+     * @throws Exception se uma conexão falhar
+     */
+    public static long[] run(String host, int port, int clients, int movesPerClient) throws Exception {
+        // Todas as conexões ficam abertas durante a carga
+        TicTacToeClient[] connections = new TicTacToeClient[clients];
+        for (int c = 0; c < clients; c++) {
+            connections[c] = new TicTacToeClient(host, port);
+        }
+
+        long[] latencies = new long[clients * movesPerClient];
+        List<Thread> workers = new ArrayList<>();
+        Exception[] failure = new Exception[1];
+        CountDownLatch ready = new CountDownLatch(1);
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            Thread worker = new Thread(null, () -> {
+                try {
+                    ready.await();
+                    drive(connections[client], client, movesPerClient, latencies);
+                } catch (IOException | InterruptedException e) {
+                    failure[0] = e;
+                }
+            }, "cliente-" + c, CLIENT_STACK);
+            workers.add(worker);
+            worker.start();
+        }
+        ready.countDown(); // Todos os clientes começam juntos
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (TicTacToeClient connection : connections) {
+            connection.close();
+        }
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /**
+     * Conduz uma conexão: cada jogada espera a resposta da anterior
+     */
+    private static void drive(TicTacToeClient connection, int client, int movesPerClient, long[] latencies)
+            throws IOException {
+        SplittableRandom random = new SplittableRandom(client);
+        String board = newGame(connection);
+        for (int move = 0; move < movesPerClient; move++) {
+            int target = random.nextInt(board.length() - board.replace(".", "").length());
+            int cell = -1;
+            while (target >= 0) {
+                if (board.charAt(++cell) == '.') target--;
+            }
+
+            long start = System.nanoTime();
+            String reply = connection.send("JOGAR " + (cell / 3) + " " + (cell % 3));
+            latencies[client * movesPerClient + move] = System.nanoTime() - start;
+
+            String[] parts = reply.split(" ");
+            if (!parts[0].equals("TABULEIRO")) {
+                throw new IOException("Resposta inesperada: " + reply);
+            }
+            board = parts[2].startsWith("VEZ_") ? parts[1] : newGame(connection);
+        }
+    }
+
+    private static String newGame(TicTacToeClient connection) throws IOException {
+        return connection.send("NOVO").split(" ")[2];
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        int movesPerClient = (args.length > 1) ? Integer.parseInt(args[1]) : 100;
+
+        TicTacToeServer server = null;
+        String host = "localhost";
+        int port;
+        if (args.length > 3) {
+            host = args[2];
+            port = Integer.parseInt(args[3]);
+        } else {
+            server = new TicTacToeServer(0);
+            server.start();
+            port = server.getPort();
+        }
+
+        System.out.println("=== CARGA: " + clients + " clientes simultâneos (uma thread cada), "
+                + movesPerClient + " jogadas cada ===");
+        long start = System.nanoTime();
+        long[] latencies = run(host, port, clients, movesPerClient);
+        long elapsed = System.nanoTime() - start;
+        if (server != null) {
+            server.stop();
+        }
+
+        System.out.printf("Jogadas/s: %.0f%n", latencies.length * 1e9 / elapsed);
+        System.out.printf("Latência (µs): p50 %d, p99 %d, máx %d%n", latencies[latencies.length / 2] / 1000,
+                latencies[(int) (latencies.length * 0.99)] / 1000, latencies[latencies.length - 1] / 1000);
+    }
+}
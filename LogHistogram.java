@@ -0,0 +1,116 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe LogHistogram - Histograma de valores não negativos em faixas logarítmicas
+ * Cada potência de 2 é dividida em 8 faixas iguais (erro relativo de até
+ * 12,5%), como nos histogramas HDR, em memória fixa e sem travas: várias
+ * threads podem registrar valores ao mesmo tempo.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class LogHistogram {
+
+    private static final int SUB_BUCKETS = 8; // Faixas por potência de 2
+    private static final int SUB_BITS = 3; // log2(SUB_BUCKETS)
+    private static final int LINEAR = 2 * SUB_BUCKETS; // Valores 0-15 têm faixa própria
+    private static final int BUCKETS = LINEAR + (63 - SUB_BITS - 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Registra um valor (valores negativos contam como zero)
+     * @param value valor
+     */
+    public void record(long value) {
+        counts.incrementAndGet(bucketOf(Math.max(0, value)));
+        total.increment();
+        sum.add(Math.max(0, value));
+    }
+
+    /**
+     * Faixa de um valor
+     */
+    static int bucketOf(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - SUB_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Menor valor de uma faixa
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR) / SUB_BUCKETS + SUB_BITS + 1;
+        int sub = (bucket - LINEAR) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+    }
+
+    /**
+     * Obtém um percentil
+     * @param percentile percentil entre 0 e 100
+     * @return maior valor da faixa que contém o percentil (0 se vazio)
+     */
+    public long getPercentile(double percentile) {
+        long count = total.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= Math.max(1, rank)) {
+                return (bucket + 1 < BUCKETS) ? lowerBound(bucket + 1) - 1 : Long.MAX_VALUE;
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @return maior valor registrado, arredondado para o fim da sua faixa (0 se vazio)
+     */
+    public long getMax() {
+        for (int bucket = BUCKETS - 1; bucket >= 0; bucket--) {
+            if (counts.get(bucket) != 0) {
+                return (bucket + 1 < BUCKETS) ? lowerBound(bucket + 1) - 1 : Long.MAX_VALUE;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return média dos valores registrados (0 se vazio)
+     */
+    public double getMean() {
+        long count = total.sum();
+        return (count == 0) ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * @return quantidade de valores registrados
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Zera o histograma
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        total.reset();
+        sum.reset();
+    }
+}
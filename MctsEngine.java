@@ -0,0 +1,322 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Classe MctsEngine - Busca em árvore Monte Carlo (UCT) para tabuleiros grandes
+ * Cada thread constrói a sua própria árvore sobre uma cópia da posição
+ * (paralelismo na raiz) e, ao fim do prazo, as visitas das jogadas da raiz
+ * são somadas. As árvores ficam em vetores pré-alocados e as partidas
+ * aleatórias usam play/undo na cópia, sem alocar. As threads ficam em um
+ * ForkJoinPool criado com o motor e reaproveitado a cada jogada; close()
+ * encerra o pool.
+ *
+ * Uso: java MctsEngine [linhas colunas k] [tempo_ms] [max_threads]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class MctsEngine implements ComputerStrategy, AutoCloseable {
+
+    public static final long DEFAULT_TIME_MILLIS = 100; // Tempo padrão por jogada
+    private static final int TREE_CAPACITY = 1 << 17; // Nós por árvore
+    private static final double EXPLORATION = 1.4; // Constante de exploração do UCT
+
+    private final int threads; // Árvores construídas em paralelo
+    private final long timeNanos; // Tempo por jogada
+    private final long maxPlayouts; // Limite de partidas por thread
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final Tree[] trees;
+    private final ForkJoinPool pool; // Threads das árvores (null com uma thread)
+    private final SearchStats stats = new SearchStats();
+
+    /**
+     * Construtor usando todos os núcleos e o tempo padrão
+     */
+    public MctsEngine() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIME_MILLIS);
+    }
+
+    /**
+     * Construtor
+     * @param threads número de árvores construídas em paralelo
+     * @param timeMillis tempo por jogada, em milissegundos
+     */
+    public MctsEngine(int threads, long timeMillis) {
+        this(threads, timeMillis, Long.MAX_VALUE);
+    }
+
+    /**
+     * Construtor com limite de partidas aleatórias
+     * @param threads número de árvores construídas em paralelo
+     * @param timeMillis tempo por jogada, em milissegundos
+     * @param maxPlayouts máximo de partidas aleatórias por thread em cada jogada
+     */
+    public MctsEngine(int threads, long timeMillis, long maxPlayouts) {
+        this.threads = threads;
+        this.timeNanos = timeMillis * 1000000L;
+        this.maxPlayouts = maxPlayouts;
+        this.trees = new Tree[threads];
+        this.pool = (threads > 1) ? new ForkJoinPool(threads) : null;
+    }
+
+    @Override
+    public int chooseMove(TicTacToe game) {
+        return chooseMove(new MnkBoard(game.getBoard()));
+    }
+
+    /**
+     * Escolhe a jogada para o jogador da vez
+     * @param position posição (não é alterada; cada thread usa uma cópia)
+     * @return índice da célula escolhida
+     */
+    public int chooseMove(GamePosition position) {
+        long start = System.nanoTime();
+        long deadline = start + timeNanos;
+        for (int t = 0; t < threads; t++) {
+            if (trees[t] == null || trees[t].moves.length != position.cellCount()) {
+                trees[t] = new Tree(position.cellCount());
+            }
+            trees[t].reset(position.copy(), seeds.nextLong());
+        }
+
+        if (threads == 1) {
+            trees[0].search(deadline, maxPlayouts);
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (Tree tree : trees) {
+                tasks.add(pool.submit(() -> tree.search(deadline, maxPlayouts)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+
+        // Soma as visitas e os resultados das jogadas da raiz de todas as árvores
+        int[] visits = new int[position.cellCount()];
+        double[] wins = new double[position.cellCount()];
+        long playouts = 0;
+        for (Tree tree : trees) {
+            playouts += tree.playouts;
+            for (int c = tree.firstChild[0]; c < tree.firstChild[0] + tree.childCount[0]; c++) {
+                visits[tree.move[c]] += tree.visits[c];
+                wins[tree.move[c]] += tree.wins[c];
+            }
+        }
+        int bestMove = trees[0].move[trees[0].firstChild[0]];
+        for (int cell = 0; cell < visits.length; cell++) {
+            if (visits[cell] > visits[bestMove]) {
+                bestMove = cell;
+            }
+        }
+
+        // Valor: taxa de vitória da jogada escolhida, de -1000 (derrota) a 1000 (vitória)
+        int score = (int) Math.round(2000 * wins[bestMove] / Math.max(1, visits[bestMove]) - 1000);
+        stats.record(playouts, System.nanoTime() - start, score);
+        return bestMove;
+    }
+
+    /**
+     * Encerra as threads do motor (as jogadas em andamento terminam normalmente)
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Obtém a vazão da última busca por thread
+     * @return partidas aleatórias por segundo em cada thread
+     */
+    public double getPlayoutsPerSecondPerThread() {
+        return stats.getNodes() * 1e9 / Math.max(1, stats.getElapsedNanos()) / threads;
+    }
+
+    /**
+     * Obtém as estatísticas da última busca (os nós são as partidas aleatórias)
+     * @return estatísticas da última busca
+     */
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+
+    /**
+     * Árvore de uma thread, em vetores paralelos indexados pelo nó (0 é a raiz)
+     */
+    private static final class Tree {
+        final int[] move = new int[TREE_CAPACITY]; // Jogada que leva ao nó
+        final int[] firstChild = new int[TREE_CAPACITY]; // -1 enquanto não expandido
+        final int[] childCount = new int[TREE_CAPACITY];
+        final int[] visits = new int[TREE_CAPACITY];
+        final float[] wins = new float[TREE_CAPACITY]; // Para quem fez a jogada; empate vale 0,5
+        final int[] moves; // Jogadas geradas, reaproveitadas
+        final int[] path; // Nós do caminho da raiz até a folha
+        GamePosition position;
+        SplittableRandom random;
+        int size;
+        long playouts;
+
+        Tree(int cellCount) {
+            moves = new int[cellCount];
+            path = new int[cellCount + 1];
+        }
+
+        void reset(GamePosition root, long seed) {
+            position = root;
+            random = new SplittableRandom(seed);
+            size = 1;
+            playouts = 0;
+            firstChild[0] = -1;
+            childCount[0] = 0;
+            visits[0] = 0;
+            wins[0] = 0;
+            expand(0);
+        }
+
+        void search(long deadline, long maxPlayouts) {
+            while (playouts < maxPlayouts && (playouts == 0 || System.nanoTime() - deadline < 0)) {
+                iterate();
+                playouts++;
+            }
+        }
+
+        /**
+         * Seleção, expansão, partida aleatória e retropropagação
+         */
+        private void iterate() {
+            int root = position.sideToMove();
+            int node = 0;
+            int depth = 0;
+            path[depth++] = 0;
+            int result;
+            while (true) {
+                if (position.isWon()) {
+                    result = 1 - position.sideToMove();
+                    break;
+                }
+                if (position.isFull()) {
+                    result = GamePosition.EMPTY;
+                    break;
+                }
+                if (firstChild[node] < 0 && (visits[node] == 0 || !expand(node))) {
+                    result = rollout();
+                    break;
+                }
+                node = select(node);
+                position.play(move[node]);
+                path[depth++] = node;
+            }
+
+            for (int i = depth - 1; i >= 0; i--) {
+                int n = path[i];
+                visits[n]++;
+                // O nó na profundidade i foi jogado pelo jogador da raiz se i é ímpar
+                int mover = (i % 2 == 1) ? root : 1 - root;
+                if (result == mover) {
+                    wins[n] += 1;
+                } else if (result == GamePosition.EMPTY) {
+                    wins[n] += 0.5f;
+                }
+                if (i > 0) {
+                    position.undo();
+                }
+            }
+        }
+
+        /**
+         * Cria os filhos do nó, se couberem na árvore
+         * @return true se o nó foi expandido
+         */
+        private boolean expand(int node) {
+            int count = position.generateMoves(moves);
+            if (size + count > TREE_CAPACITY) {
+                return false;
+            }
+            firstChild[node] = size;
+            childCount[node] = count;
+            for (int i = 0; i < count; i++) {
+                int child = size++;
+                move[child] = moves[i];
+                firstChild[child] = -1;
+                childCount[child] = 0;
+                visits[child] = 0;
+                wins[child] = 0;
+            }
+            return true;
+        }
+
+        /**
+         * Escolhe o filho pelo UCT; filhos ainda não visitados vêm primeiro, na
+         * ordem de geração das jogadas
+         */
+        private int select(int node) {
+            double logVisits = Math.log(Math.max(1, visits[node]));
+            int best = firstChild[node];
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int c = firstChild[node]; c < firstChild[node] + childCount[node]; c++) {
+                if (visits[c] == 0) {
+                    return c;
+                }
+                double value = wins[c] / visits[c] + EXPLORATION * Math.sqrt(logVisits / visits[c]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Termina a partida com jogadas aleatórias e desfaz todas elas
+         * @return vencedor (X ou O) ou EMPTY no empate
+         */
+        private int rollout() {
+            int plies = 0;
+            int result;
+            while (true) {
+                if (position.isWon()) {
+                    result = 1 - position.sideToMove();
+                    break;
+                }
+                if (position.isFull()) {
+                    result = GamePosition.EMPTY;
+                    break;
+                }
+                int count = position.generateMoves(moves);
+                position.play(moves[random.nextInt(count)]);
+                plies++;
+            }
+            for (int i = 0; i < plies; i++) {
+                position.undo();
+            }
+            return result;
+        }
+    }
+
+    public static void main(String[] args) {
+        int rows = (args.length >= 3) ? Integer.parseInt(args[0]) : 15;
+        int cols = (args.length >= 3) ? Integer.parseInt(args[1]) : 15;
+        int winLength = (args.length >= 3) ? Integer.parseInt(args[2]) : 5;
+        long timeMillis = (args.length >= 4) ? Long.parseLong(args[3]) : 1000;
+        int maxThreads = (args.length >= 5) ? Integer.parseInt(args[4]) : 32;
+
+        System.out.println("=== MCTS: " + rows + "x" + cols + ", " + winLength + " em linha, "
+                + timeMillis + " ms por jogada, " + Runtime.getRuntime().availableProcessors() + " núcleos ===");
+        System.out.printf("%8s %15s %22s%n", "threads", "partidas/s", "partidas/s por thread");
+        MnkBoard board = new MnkBoard(rows, cols, winLength);
+        board.play(board.getCellByPreference(0));
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            try (MctsEngine engine = new MctsEngine(threads, timeMillis)) {
+                engine.chooseMove(board); // Aquecimento
+                engine.chooseMove(board);
+                System.out.printf("%8d %15.0f %22.0f%n", threads,
+                        engine.getPlayoutsPerSecondPerThread() * threads, engine.getPlayoutsPerSecondPerThread());
+            }
+        }
+    }
+}
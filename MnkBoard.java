@@ -0,0 +1,548 @@
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe MnkBoard - Tabuleiro m x n com vitória por k em linha
+ * Guarda as células de cada jogador em máscaras de bits e verifica a vitória
+ * apenas nas quatro linhas que passam pela última jogada, de modo que o custo
+ * de cada jogada não cresce com o tamanho do tabuleiro. As jogadas ficam em
+ * uma pilha e podem ser desfeitas sem alocar, para uso nas buscas
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class MnkBoard implements GamePosition {
+
+    // Direções das linhas: horizontal, vertical, diagonal e diagonal secundária
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    /**
+     * Tabelas que só dependem das dimensões (rows, cols, k), calculadas uma vez
+     * por tamanho e compartilhadas por todos os tabuleiros desse tamanho
+     */
+    private static final class Geometry {
+        final long emptyHash;
+        final long[] zobrist;
+        final long[][] linesThrough;
+        final long[] allLines;
+        final int[] cellOrder;
+        final ThreatEvaluator threats; // Avaliador vazio, só copiado
+
+        Geometry(MnkBoard board) {
+            this.emptyHash = GamePosition.mix(((long) board.rows << 32) | ((long) board.cols << 16) | board.winLength);
+            this.zobrist = GamePosition.zobristKeys(emptyHash, board.cellCount);
+            this.linesThrough = (board.cellCount <= 64) ? board.buildLineMasks() : null;
+            this.allLines = (board.cellCount <= 64) ? collectLines(linesThrough) : null;
+            this.cellOrder = board.buildCellOrder();
+            this.threats = (board.cellCount <= 64) ? null : new ThreatEvaluator(board.rows, board.cols, board.winLength);
+        }
+    }
+
+    // Geometrias já calculadas, por (rows, cols, k)
+    private static final ConcurrentHashMap<Long, Geometry> GEOMETRIES = new ConcurrentHashMap<>();
+
+    private final int rows; // Número de linhas
+    private final int cols; // Número de colunas
+    private final int winLength; // Quantidade em linha para vencer
+    private final int cellCount; // rows * cols
+    private final long[][] bits; // Células de cada jogador: bits[jogador][palavra]
+    private final long emptyHash; // Hash de Zobrist do tabuleiro vazio
+    private final long[] zobrist; // Chaves de Zobrist: [2 * célula + jogador]
+
+    // Tabuleiros de até 64 células: máscaras das linhas vencedoras que passam
+    // por cada célula e de todas as linhas (null nos tabuleiros maiores,
+    // que contam a sequência)
+    private final long[][] linesThrough;
+    private final long[] allLines;
+
+    // Células do centro para as bordas, ordem usada na geração de jogadas
+    private final int[] cellOrder;
+
+    // Tabuleiros grandes: pedras a até duas células de distância de cada
+    // célula (null nos tabuleiros de até 64 células, que geram todas as jogadas)
+    private final int[] nearby;
+
+    // Tabuleiros grandes: contagem incremental de padrões por janela, usada
+    // na avaliação e na busca de ameaças (null nos tabuleiros de até 64 células)
+    private final ThreatEvaluator threats;
+
+    private final int[] history; // Células jogadas, em ordem
+    private int moveCount; // Células ocupadas
+    private int winner; // Jogador que completou uma linha, ou EMPTY
+    private long hash; // Hash de Zobrist da posição atual
+
+    /**
+     * Construtor - Cria um tabuleiro vazio
+     * @param rows número de linhas
+     * @param cols número de colunas
+     * @param winLength quantidade de símbolos em linha para vencer
+     */
+    public MnkBoard(int rows, int cols, int winLength) {
+        if (rows < 1 || cols < 1 || winLength < 1 || winLength > Math.max(rows, cols)) {
+            throw new IllegalArgumentException(
+                    "Tabuleiro inválido: " + rows + "x" + cols + " com " + winLength + " em linha");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.winLength = winLength;
+        this.cellCount = rows * cols;
+        this.bits = new long[2][(cellCount + 63) >>> 6];
+        // Só o estado da partida é alocado aqui; as tabelas vêm da geometria
+        Long size = ((long) rows << 32) | ((long) cols << 16) | winLength;
+        Geometry geometry = GEOMETRIES.get(size);
+        if (geometry == null) {
+            geometry = new Geometry(this);
+            Geometry previous = GEOMETRIES.putIfAbsent(size, geometry);
+            if (previous != null) {
+                geometry = previous;
+            }
+        }
+        this.emptyHash = geometry.emptyHash;
+        this.zobrist = geometry.zobrist;
+        this.hash = emptyHash;
+        this.linesThrough = geometry.linesThrough;
+        this.allLines = geometry.allLines;
+        this.cellOrder = geometry.cellOrder;
+        this.nearby = (cellCount <= 64) ? null : new int[cellCount];
+        this.threats = (geometry.threats == null) ? null : new ThreatEvaluator(geometry.threats);
+        this.history = new int[cellCount];
+        this.winner = EMPTY;
+    }
+
+    /**
+     * Construtor de cópia
+     * @param other tabuleiro a ser copiado
+     */
+    public MnkBoard(MnkBoard other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.winLength = other.winLength;
+        this.cellCount = other.cellCount;
+        this.bits = new long[2][other.bits[0].length];
+        this.emptyHash = other.emptyHash;
+        this.zobrist = other.zobrist; // Imutáveis, podem ser compartilhados
+        this.linesThrough = other.linesThrough;
+        this.allLines = other.allLines;
+        this.cellOrder = other.cellOrder;
+        this.nearby = (other.nearby == null) ? null : new int[cellCount];
+        this.threats = (other.threats == null) ? null : new ThreatEvaluator(other.threats);
+        this.history = new int[cellCount];
+        copyFrom(other);
+    }
+
+    /**
+     * Copia o conteúdo de outro tabuleiro com as mesmas dimensões, sem alocar
+     * @param other tabuleiro de origem
+     */
+    public void copyFrom(MnkBoard other) {
+        System.arraycopy(other.bits[X], 0, bits[X], 0, bits[X].length);
+        System.arraycopy(other.bits[O], 0, bits[O], 0, bits[O].length);
+        System.arraycopy(other.history, 0, history, 0, other.moveCount);
+        if (nearby != null) {
+            System.arraycopy(other.nearby, 0, nearby, 0, cellCount);
+            threats.copyFrom(other.threats);
+        }
+        moveCount = other.moveCount;
+        winner = other.winner;
+        hash = other.hash;
+    }
+
+    /**
+     * Calcula, para cada célula, as máscaras das janelas de k células em linha
+     * que a contêm
+     */
+    private long[][] buildLineMasks() {
+        long[][] masks = new long[cellCount][];
+        long[] buffer = new long[4 * winLength];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int count = 0;
+            int row = cell / cols;
+            int col = cell % cols;
+            for (int[] d : DIRECTIONS) {
+                // Cada janela começa até k - 1 passos antes da célula
+                for (int back = 0; back < winLength; back++) {
+                    int startRow = row - back * d[0];
+                    int startCol = col - back * d[1];
+                    int endRow = startRow + (winLength - 1) * d[0];
+                    int endCol = startCol + (winLength - 1) * d[1];
+                    if (!inside(startRow, startCol) || !inside(endRow, endCol)) {
+                        continue;
+                    }
+                    long mask = 0;
+                    for (int i = 0; i < winLength; i++) {
+                        mask |= 1L << ((startRow + i * d[0]) * cols + startCol + i * d[1]);
+                    }
+                    buffer[count++] = mask;
+                }
+            }
+            masks[cell] = Arrays.copyOf(buffer, count);
+        }
+        return masks;
+    }
+
+    /**
+     * Junta as máscaras de todas as linhas, sem repetição
+     */
+    private static long[] collectLines(long[][] linesThrough) {
+        Set<Long> lines = new LinkedHashSet<>();
+        for (long[] masks : linesThrough) {
+            for (long mask : masks) lines.add(mask);
+        }
+        long[] result = new long[lines.size()];
+        int i = 0;
+        for (long mask : lines) result[i++] = mask;
+        return result;
+    }
+
+    /**
+     * Ordena as células do centro para as bordas
+     */
+    private int[] buildCellOrder() {
+        Integer[] cells = new Integer[cellCount];
+        for (int i = 0; i < cellCount; i++) cells[i] = i;
+        Arrays.sort(cells, (a, b) -> Integer.compare(distanceToCenter(a), distanceToCenter(b)));
+        int[] order = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) order[i] = cells[i];
+        return order;
+    }
+
+    /**
+     * Distância (ao quadrado, em meias células) da célula ao centro do tabuleiro
+     */
+    private int distanceToCenter(int cell) {
+        int dRow = 2 * (cell / cols) - (rows - 1);
+        int dCol = 2 * (cell % cols) - (cols - 1);
+        return dRow * dRow + dCol * dCol;
+    }
+
+    private boolean inside(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    /**
+     * Limpa o tabuleiro
+     */
+    public void clear() {
+        Arrays.fill(bits[X], 0);
+        Arrays.fill(bits[O], 0);
+        if (nearby != null) {
+            Arrays.fill(nearby, 0);
+            threats.clear();
+        }
+        moveCount = 0;
+        winner = EMPTY;
+        hash = emptyHash;
+    }
+
+    /**
+     * Obtém o valor de uma célula
+     * @param cell índice da célula (row * cols + col)
+     * @return X, O ou EMPTY
+     */
+    public int get(int cell) {
+        long mask = 1L << cell;
+        if ((bits[X][cell >>> 6] & mask) != 0) return X;
+        if ((bits[O][cell >>> 6] & mask) != 0) return O;
+        return EMPTY;
+    }
+
+    /**
+     * Verifica se uma célula está vazia
+     * @param cell índice da célula (row * cols + col)
+     * @return true se a célula está vazia
+     */
+    @Override
+    public boolean isEmpty(int cell) {
+        return ((bits[X][cell >>> 6] | bits[O][cell >>> 6]) & (1L << cell)) == 0;
+    }
+
+    /**
+     * Ocupa uma célula vazia e verifica as linhas que passam por ela
+     * @param cell índice da célula (row * cols + col)
+     * @param player X ou O
+     * @return true se a jogada completou uma linha
+     */
+    public boolean place(int cell, int player) {
+        bits[player][cell >>> 6] |= 1L << cell;
+        history[moveCount++] = cell;
+        hash ^= zobrist[2 * cell + player];
+        if (nearby != null) {
+            updateNearby(cell, 1);
+            threats.place(cell, player);
+        }
+        if (completesLine(cell, player)) {
+            winner = player;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Desfaz a última jogada (é preciso haver uma: getMoveCount() > 0)
+     */
+    @Override
+    public void undo() {
+        int cell = history[--moveCount];
+        int player = get(cell);
+        hash ^= zobrist[2 * cell + player];
+        bits[X][cell >>> 6] &= ~(1L << cell);
+        bits[O][cell >>> 6] &= ~(1L << cell);
+        if (nearby != null) {
+            updateNearby(cell, -1);
+            threats.remove(cell, player);
+        }
+        winner = EMPTY; // O jogo continuava antes da jogada desfeita
+    }
+
+    /**
+     * Atualiza a contagem de pedras próximas nas células a até duas de distância
+     */
+    private void updateNearby(int cell, int delta) {
+        int row = cell / cols;
+        int col = cell % cols;
+        for (int r = Math.max(0, row - 2); r <= Math.min(rows - 1, row + 2); r++) {
+            for (int c = Math.max(0, col - 2); c <= Math.min(cols - 1, col + 2); c++) {
+                nearby[r * cols + c] += delta;
+            }
+        }
+    }
+
+    /**
+     * Obtém a última célula jogada
+     * @return índice da célula, ou -1 se o tabuleiro está vazio
+     */
+    public int getLastMove() {
+        return moveCount == 0 ? -1 : history[moveCount - 1];
+    }
+
+    /**
+     * Obtém uma jogada da pilha de jogadas
+     * @param ply número da jogada (0 é a primeira)
+     * @return índice da célula jogada
+     */
+    public int getMove(int ply) {
+        return history[ply];
+    }
+
+    /**
+     * Verifica se ocupar uma célula completaria uma linha, sem alterar o tabuleiro
+     * @param cell índice de uma célula vazia
+     * @param player X ou O
+     * @return true se a jogada venceria o jogo
+     */
+    public boolean wouldWin(int cell, int player) {
+        return completesLine(cell, player);
+    }
+
+    /**
+     * Verifica as linhas que passam pela célula, considerando-a ocupada pelo jogador
+     */
+    private boolean completesLine(int cell, int player) {
+        long[] own = bits[player];
+        if (linesThrough != null) {
+            long board = own[0] | (1L << cell);
+            for (long line : linesThrough[cell]) {
+                if ((board & line) == line) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int row = cell / cols;
+        int col = cell % cols;
+        for (int[] d : DIRECTIONS) {
+            int count = 1 + countRun(own, row, col, d[0], d[1])
+                    + countRun(own, row, col, -d[0], -d[1]);
+            if (count >= winLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Conta as células consecutivas do jogador a partir da vizinha na direção dada
+     */
+    private int countRun(long[] own, int row, int col, int dRow, int dCol) {
+        int count = 0;
+        row += dRow;
+        col += dCol;
+        while (count < winLength - 1 && inside(row, col)) {
+            int cell = row * cols + col;
+            if ((own[cell >>> 6] & (1L << cell)) == 0) {
+                break;
+            }
+            count++;
+            row += dRow;
+            col += dCol;
+        }
+        return count;
+    }
+
+    /**
+     * Verifica se o tabuleiro está cheio
+     * @return true se todas as células estão ocupadas
+     */
+    @Override
+    public boolean isFull() {
+        return moveCount == cellCount;
+    }
+
+    @Override
+    public int cellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public int sideToMove() {
+        return moveCount & 1; // X sempre começa
+    }
+
+    @Override
+    public int moveCount() {
+        return moveCount;
+    }
+
+    @Override
+    public void play(int cell) {
+        place(cell, moveCount & 1);
+    }
+
+    @Override
+    public boolean isWon() {
+        return winner != EMPTY;
+    }
+
+    /**
+     * Soma o peso de cada janela de k células com símbolos de um só jogador
+     * (positivo para o jogador da vez). Nos tabuleiros grandes a soma é mantida
+     * a cada jogada pelo ThreatEvaluator
+     */
+    @Override
+    public int evaluate() {
+        int me = moveCount & 1;
+        if (threats != null) {
+            return threats.getScore(me);
+        }
+        int score = 0;
+        long mine = bits[me][0];
+        long theirs = bits[me ^ 1][0];
+        for (long line : allLines) {
+            score += windowScore(Long.bitCount(mine & line), Long.bitCount(theirs & line));
+        }
+        return score;
+    }
+
+    /**
+     * Mesma avaliação de evaluate(), percorrendo todas as janelas do tabuleiro
+     * (referência para conferir a contagem incremental)
+     */
+    int evaluateByScan() {
+        int me = moveCount & 1;
+        if (threats == null) {
+            return evaluate();
+        }
+        int score = 0;
+        long[] mine = bits[me];
+        long[] theirs = bits[me ^ 1];
+        for (int[] d : DIRECTIONS) {
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    if (!inside(row + (winLength - 1) * d[0], col + (winLength - 1) * d[1])) {
+                        continue;
+                    }
+                    int m = 0;
+                    int t = 0;
+                    for (int i = 0; i < winLength; i++) {
+                        int cell = (row + i * d[0]) * cols + col + i * d[1];
+                        long mask = 1L << cell;
+                        if ((mine[cell >>> 6] & mask) != 0) m++;
+                        else if ((theirs[cell >>> 6] & mask) != 0) t++;
+                    }
+                    score += windowScore(m, t);
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Peso de uma janela: 8^(n-1) para n símbolos de um só jogador, 0 se mista
+     */
+    private static int windowScore(int mine, int theirs) {
+        if (theirs == 0 && mine > 0) {
+            return 1 << (3 * Math.min(mine - 1, 9));
+        }
+        if (mine == 0 && theirs > 0) {
+            return -(1 << (3 * Math.min(theirs - 1, 9)));
+        }
+        return 0;
+    }
+
+    /**
+     * Gera as células vazias do centro para as bordas; nos tabuleiros grandes,
+     * apenas as que estão a até duas células de alguma pedra
+     */
+    @Override
+    public int generateMoves(int[] moves) {
+        int count = 0;
+        if (nearby != null && moveCount == 0) {
+            moves[count++] = cellOrder[0];
+            return count;
+        }
+        for (int cell : cellOrder) {
+            if (isEmpty(cell) && (nearby == null || nearby[cell] > 0)) {
+                moves[count++] = cell;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public MnkBoard copy() {
+        return new MnkBoard(this);
+    }
+
+    @Override
+    public long positionHash() {
+        return hash;
+    }
+
+    /**
+     * Obtém as células do centro para as bordas
+     * @param index posição na ordem (0 é a célula central)
+     * @return índice da célula
+     */
+    public int getCellByPreference(int index) {
+        return cellOrder[index];
+    }
+
+    /**
+     * Obtém uma palavra de 64 células de um jogador
+     * @param player X ou O
+     * @param index índice da palavra (células 64 * index a 64 * index + 63)
+     * @return máscara das células do jogador
+     */
+    public long getWord(int player, int index) {
+        return bits[player][index];
+    }
+
+    /**
+     * @return contagem incremental de padrões, ou null nos tabuleiros de até 64 células
+     */
+    public ThreatEvaluator getThreatEvaluator() {
+        return threats;
+    }
+
+    // Getters
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int getWinLength() { return winLength; }
+    public int getCellCount() { return cellCount; }
+    public int getMoveCount() { return moveCount; }
+    public int getWinner() { return winner; }
+    public int getWordCount() { return bits[X].length; }
+}
@@ -0,0 +1,23 @@
+/**
+ * Interface MoveListener - Aviso de mudanças no tabuleiro
+ * Recebe cada célula ocupada ou liberada (jogar, desfazer) e o reinício do
+ * jogo, para que uma visualização atualize só o que mudou. Chamado na thread
+ * que altera o jogo.
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public interface MoveListener {
+    
+    /**
+     * Uma célula mudou
+     * @param cell índice da célula (row * cols + col; no 4x4x4, Qubic.cellIndex)
+     * @param value novo conteúdo (EMPTY quando a jogada foi desfeita)
+     */
+    void cellChanged(int cell, TicTacToe.Cell value);
+    
+    /**
+     * O tabuleiro foi esvaziado (novo jogo)
+     */
+    void boardCleared();
+}
@@ -0,0 +1,127 @@
+/**
+ * Classe NegamaxEngine - Jogador perfeito para o jogo da velha
+ * Busca negamax completa com poda alfa-beta, ordenação de jogadas
+ * e tabela de transposição indexada pela chave canônica da posição,
+ * de modo que as 8 simetrias de uma posição compartilham a mesma entrada
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class NegamaxEngine implements ComputerStrategy {
+    
+    // Vitória com n peças no tabuleiro vale WIN_SCORE - n (vitórias rápidas valem mais)
+    static final int WIN_SCORE = 10;
+    
+    // Centro, cantos e bordas: as melhores jogadas costumam vir primeiro
+    private static final int[] MOVE_ORDER = {4, 0, 2, 6, 8, 1, 3, 5, 7};
+    
+    // Tipos de entrada da tabela de transposição
+    private static final int EXACT = 1;
+    private static final int LOWER = 2;
+    private static final int UPPER = 3;
+    
+    // Entrada = (valor + 16) | tipo << 5 | (jogada + 1) << 7; zero significa vazia.
+    // Índice = chave canônica (BoardSymmetry) e jogada no tabuleiro canônico
+    private final int[] table = new int[1 << 18];
+    
+    private final SearchStats stats = new SearchStats();
+    private long nodes;
+    private long tableProbes; // Consultas à tabela de transposição na última busca
+    private long tableHits; // Consultas que encontraram a posição
+    
+    @Override
+    public int chooseMove(TicTacToe game) {
+        long start = System.nanoTime();
+        nodes = 0;
+        tableProbes = 0;
+        tableHits = 0;
+        
+        boolean xToMove = game.getCurrentPlayer() == TicTacToe.Cell.X;
+        int mine = xToMove ? game.getXBits() : game.getOBits();
+        int theirs = xToMove ? game.getOBits() : game.getXBits();
+        
+        int score = negamax(mine, theirs, -WIN_SCORE, WIN_SCORE);
+        int canonical = BoardSymmetry.canonical(mine, theirs);
+        int move = BoardSymmetry.unmapCell(BoardSymmetry.transform(canonical),
+                (table[BoardSymmetry.key(canonical)] >>> 7) - 1);
+        
+        stats.record(nodes, System.nanoTime() - start, score);
+        if (GameMetrics.ENABLED) GameMetrics.get().recordCache(tableProbes, tableHits);
+        return move;
+    }
+    
+    /**
+     * Avalia a posição para o jogador da vez
+     * @param mine células do jogador da vez
+     * @param theirs células do oponente
+     * @param alpha limite inferior da janela
+     * @param beta limite superior da janela
+     * @return valor da posição (> 0 vitória, 0 empate, < 0 derrota)
+     */
+    private int negamax(int mine, int theirs, int alpha, int beta) {
+        nodes++;
+        int occupied = mine | theirs;
+        if (occupied == 0x1FF) {
+            return 0; // Empate
+        }
+        
+        // Consulta a tabela de transposição
+        int canonical = BoardSymmetry.canonical(mine, theirs);
+        int key = BoardSymmetry.key(canonical);
+        int transform = BoardSymmetry.transform(canonical);
+        int entry = table[key];
+        int ttMove = -1;
+        tableProbes++;
+        if (entry != 0) {
+            tableHits++;
+            int value = (entry & 0x1F) - 16;
+            int type = (entry >>> 5) & 0x3;
+            if (type == EXACT
+                    || (type == LOWER && value >= beta)
+                    || (type == UPPER && value <= alpha)) {
+                return value;
+            }
+            ttMove = BoardSymmetry.unmapCell(transform, (entry >>> 7) - 1);
+        }
+        
+        int originalAlpha = alpha;
+        int best = -WIN_SCORE;
+        int bestMove = -1;
+        
+        for (int i = -1; i < MOVE_ORDER.length; i++) {
+            // A jogada da tabela é testada primeiro, depois a ordem fixa
+            int move = (i < 0) ? ttMove : MOVE_ORDER[i];
+            if (move < 0 || (i >= 0 && move == ttMove) || (occupied & (1 << move)) != 0) {
+                continue;
+            }
+            
+            int next = mine | (1 << move);
+            int score;
+            if (TicTacToe.checkForWin(next)) {
+                score = WIN_SCORE - Integer.bitCount(occupied) - 1;
+            } else {
+                score = -negamax(theirs, next, -beta, -alpha);
+            }
+            
+            if (score > best) {
+                best = score;
+                bestMove = move;
+            }
+            if (best > alpha) {
+                alpha = best;
+            }
+            if (alpha >= beta) {
+                break; // Poda beta
+            }
+        }
+        
+        int type = (best <= originalAlpha) ? UPPER : (best >= beta) ? LOWER : EXACT;
+        table[key] = (best + 16) | type << 5 | (BoardSymmetry.mapCell(transform, bestMove) + 1) << 7;
+        return best;
+    }
+    
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,161 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classe OffHeapTranspositionTable - Tabela de transposição fora do heap
+ * O tamanho é dado em MB na criação e fica em ByteBuffers diretos (até 1 GB
+ * cada), então nem gigabytes de tabela pesam na coleta de lixo. As posições
+ * ficam em baldes de 32 bytes com duas entradas:
+ *   entrada 0: preferência por profundidade (só é trocada por uma busca pelo
+ *              menos tão funda, ou se for de uma jogada anterior)
+ *   entrada 1: sempre substituída (recebe também o que sai da entrada 0)
+ * Cada entrada guarda (hash XOR dados) e dados, como na
+ * SharedTranspositionTable, então várias threads podem usar a tabela sem
+ * travas: entradas misturadas por gravações simultâneas não conferem com o
+ * hash e são ignoradas.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class OffHeapTranspositionTable implements TranspositionTable {
+
+    private static final int BUCKET_BYTES = 32; // Duas entradas de 16 bytes
+    private static final int SEGMENT_BITS = 25; // 2^25 baldes (1 GB) por ByteBuffer
+    private static final int AGE_SHIFT = 26; // Idade nos bits livres dos dados
+    private static final long AGE_MASK = 0x3FL << AGE_SHIFT;
+    private static final int FILL_SAMPLE = 4096; // Baldes examinados em getFillRate()
+
+    private final ByteBuffer[] segments;
+    private final long bucketMask; // Baldes - 1 (potência de 2)
+    private final int segmentMask; // Baldes por segmento - 1
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private volatile long age; // Jogada atual (6 bits), gravada em cada entrada
+
+    /**
+     * Construtor
+     * @param megabytes tamanho máximo da tabela em MB (usa a maior potência de 2 que couber)
+     */
+    public OffHeapTranspositionTable(int megabytes) {
+        long buckets = Long.highestOneBit(Math.max(1, (long) megabytes * 1024 * 1024 / BUCKET_BYTES));
+        int bucketsPerSegment = (int) Math.min(buckets, 1L << SEGMENT_BITS);
+        this.segments = new ByteBuffer[(int) (buckets / bucketsPerSegment)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(bucketsPerSegment * BUCKET_BYTES).order(ByteOrder.nativeOrder());
+        }
+        this.bucketMask = buckets - 1;
+        this.segmentMask = bucketsPerSegment - 1;
+    }
+
+    @Override
+    public long probe(long hash) {
+        probes.increment();
+        long bucket = hash & bucketMask;
+        ByteBuffer segment = segments[(int) (bucket >>> SEGMENT_BITS)];
+        int offset = ((int) bucket & segmentMask) * BUCKET_BYTES;
+        for (int slot = offset; slot < offset + BUCKET_BYTES; slot += 16) {
+            long data = segment.getLong(slot + 8);
+            if ((segment.getLong(slot) ^ data) == hash && data != 0) {
+                hits.increment();
+                return data & ~AGE_MASK;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void store(long hash, long data) {
+        stores.increment();
+        long bucket = hash & bucketMask;
+        ByteBuffer segment = segments[(int) (bucket >>> SEGMENT_BITS)];
+        int offset = ((int) bucket & segmentMask) * BUCKET_BYTES;
+        data = (data & ~AGE_MASK) | (age << AGE_SHIFT);
+
+        long preferred = segment.getLong(offset + 8);
+        long preferredHash = segment.getLong(offset) ^ preferred;
+        if (preferred == 0 || preferredHash == hash || (preferred & AGE_MASK) != (data & AGE_MASK)
+                || TranspositionTable.getDepth(data) >= TranspositionTable.getDepth(preferred)) {
+            if (preferred != 0 && preferredHash != hash) {
+                write(segment, offset + 16, preferredHash, preferred); // Rebaixada para a outra entrada
+            }
+            write(segment, offset, hash, data);
+        } else {
+            write(segment, offset + 16, hash, data);
+        }
+    }
+
+    private static void write(ByteBuffer segment, int slot, long hash, long data) {
+        segment.putLong(slot + 8, data);
+        segment.putLong(slot, hash ^ data);
+    }
+
+    @Override
+    public void newSearch() {
+        age = (age + 1) & 0x3F;
+    }
+
+    @Override
+    public void clear() {
+        for (ByteBuffer segment : segments) {
+            for (int i = 0; i < segment.capacity(); i += 8) {
+                segment.putLong(i, 0);
+            }
+        }
+        probes.reset();
+        hits.reset();
+        stores.reset();
+    }
+
+    /**
+     * @return tamanho da tabela em bytes
+     */
+    public long sizeBytes() {
+        return (bucketMask + 1) * BUCKET_BYTES;
+    }
+
+    /**
+     * @return consultas desde a criação ou o último clear()
+     */
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * @return fração das consultas que encontraram a posição
+     */
+    public double getHitRate() {
+        long count = probes.sum();
+        return (count == 0) ? 0 : (double) hits.sum() / count;
+    }
+
+    /**
+     * @return gravações desde a criação ou o último clear()
+     */
+    public long getStores() {
+        return stores.sum();
+    }
+
+    /**
+     * Ocupação estimada pelos primeiros baldes (como o "hashfull" dos
+     * programas de xadrez): contar a tabela inteira levaria segundos em tabelas
+     * de gigabytes
+     * @return fração das entradas ocupadas
+     */
+    public double getFillRate() {
+        ByteBuffer segment = segments[0];
+        int buckets = (int) Math.min(FILL_SAMPLE, bucketMask + 1);
+        int used = 0;
+        for (int slot = 0; slot < buckets * BUCKET_BYTES; slot += 16) {
+            if (segment.getLong(slot + 8) != 0) used++;
+        }
+        return used / (2.0 * buckets);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d MB, %d consultas, %.1f%% acertos, %.1f%% ocupada", sizeBytes() >> 20,
+                getProbes(), 100 * getHitRate(), 100 * getFillRate());
+    }
+}
@@ -0,0 +1,158 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Classe PositionDatabase - Banco de posições analisadas em arquivo mapeado em memória
+ * Tabela hash de endereçamento aberto gravada direto no arquivo: nada é
+ * carregado no heap, e várias JVMs da mesma máquina compartilham o arquivo
+ * pelo cache de páginas do sistema operacional. Preenchido por
+ * PositionDatabaseBuilder e consultado pelo computador antes de buscar.
+ *
+ * Formato: cabeçalho de 64 bytes (assinatura, versão, número de posições
+ * da tabela e de posições ocupadas) seguido de posições de 16 bytes (chave
+ * e entrada). Entrada = (jogada + 1) | profundidade << 16 | valor << 32;
+ * zero marca posição vazia.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class PositionDatabase implements Closeable {
+
+    private static final int MAGIC = 0x4A445642; // "JDVB"
+    private static final int VERSION = 2; // 2: chaves de Zobrist (positionHash)
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_SLOTS = (Integer.MAX_VALUE - HEADER_BYTES) / SLOT_BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int mask; // Número de posições da tabela - 1 (potência de 2)
+    private final boolean writable;
+    private int size;
+
+    private PositionDatabase(FileChannel channel, MappedByteBuffer buffer, boolean writable) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.mask = buffer.getInt(8) - 1;
+        this.size = buffer.getInt(12);
+        this.writable = writable;
+    }
+
+    /**
+     * Cria um banco vazio (apagando o arquivo, se existir) para gravação
+     * @param path arquivo do banco
+     * @param capacity número de posições que o banco deve comportar
+     * @return banco aberto para gravação
+     * @throws IOException se o arquivo não puder ser criado
+     */
+    public static PositionDatabase create(Path path, int capacity) throws IOException {
+        // Metade da tabela livre mantém as sondagens curtas
+        int slots = Integer.highestOneBit(Math.max(16, capacity * 2 - 1)) << 1;
+        if (slots > MAX_SLOTS || slots <= 0) {
+            throw new IllegalArgumentException("Capacidade grande demais: " + capacity);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_BYTES + (long) slots * SLOT_BYTES);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, slots);
+        buffer.putInt(12, 0);
+        return new PositionDatabase(channel, buffer, true);
+    }
+
+    /**
+     * Abre um banco existente só para leitura
+     * @param path arquivo do banco
+     * @return banco aberto para consultas
+     * @throws IOException se o arquivo não existe ou não é um banco de posições
+     */
+    public static PositionDatabase open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (channel.size() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || channel.size() != HEADER_BYTES + (long) buffer.getInt(8) * SLOT_BYTES) {
+            channel.close();
+            throw new IOException("Arquivo não é um banco de posições: " + path);
+        }
+        return new PositionDatabase(channel, buffer, false);
+    }
+
+    /**
+     * Procura uma posição
+     * @param key chave da posição (GamePosition.positionHash)
+     * @return entrada da posição, ou 0 se ela não está no banco
+     */
+    public long get(long key) {
+        for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+            int offset = HEADER_BYTES + slot * SLOT_BYTES;
+            long entry = buffer.getLong(offset + 8);
+            if (entry == 0 || buffer.getLong(offset) == key) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Grava (ou substitui) a análise de uma posição
+     * @param key chave da posição
+     * @param move melhor jogada (índice da célula)
+     * @param score valor da posição para o jogador da vez
+     * @param depth profundidade da análise, em jogadas (até 255)
+     */
+    public void put(long key, int move, int score, int depth) {
+        if (!writable) {
+            throw new IllegalStateException("Banco aberto só para leitura");
+        }
+        long entry = (move + 1) | (long) Math.min(depth, 0xFF) << 16 | (long) score << 32;
+        for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+            int offset = HEADER_BYTES + slot * SLOT_BYTES;
+            if (buffer.getLong(offset + 8) == 0) {
+                if (size == mask) {
+                    throw new IllegalStateException("Banco de posições cheio");
+                }
+                size++;
+                buffer.putInt(12, size);
+            } else if (buffer.getLong(offset) != key) {
+                continue;
+            }
+            buffer.putLong(offset, key);
+            buffer.putLong(offset + 8, entry);
+            return;
+        }
+    }
+
+    // Leitura de uma entrada
+
+    public static int getMove(long entry) {
+        return (int) (entry & 0xFFFF) - 1;
+    }
+
+    public static int getDepth(long entry) {
+        return (int) (entry >>> 16) & 0xFF;
+    }
+
+    public static int getScore(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    /**
+     * @return número de posições gravadas
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writable) {
+            buffer.force();
+        }
+        channel.close();
+    }
+}
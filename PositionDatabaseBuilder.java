@@ -0,0 +1,111 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Classe PositionDatabaseBuilder - Preenche um banco de posições com análises do computador
+ * Percorre as aberturas a partir do tabuleiro vazio (as primeiras jogadas
+ * candidatas de cada posição, até um número de jogadas) e grava a melhor
+ * jogada e o valor encontrados pela busca com aprofundamento iterativo.
+ * Posições repetidas por transposição são analisadas uma única vez.
+ *
+ * Uso: java PositionDatabaseBuilder arquivo (linhas colunas k | qubic) [jogadas] [largura] [tempo_ms]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class PositionDatabaseBuilder {
+
+    private final PositionDatabase database;
+    private final IterativeDeepeningSearch search;
+    private final int plies; // Profundidade das aberturas percorridas
+    private final int width; // Jogadas candidatas seguidas em cada posição
+    private final int[][] moveBuffers;
+    private int analysed;
+
+    /**
+     * Construtor
+     * @param database banco aberto para gravação
+     * @param cellCount número de células do tabuleiro
+     * @param plies jogadas a partir do tabuleiro vazio
+     * @param width jogadas candidatas seguidas em cada posição
+     * @param millis tempo de análise por posição, em milissegundos
+     */
+    public PositionDatabaseBuilder(PositionDatabase database, int cellCount, int plies, int width, long millis) {
+        this.database = database;
+        this.search = new IterativeDeepeningSearch(millis);
+        this.plies = plies;
+        this.width = width;
+        this.moveBuffers = new int[plies + 1][cellCount];
+    }
+
+    /**
+     * Analisa a posição e as aberturas que saem dela
+     * @param position posição inicial (restaurada ao final)
+     * @return número de posições analisadas
+     */
+    public int build(GamePosition position) {
+        analysed = 0;
+        visit(position, 0);
+        return analysed;
+    }
+
+    private void visit(GamePosition position, int ply) {
+        if (position.isWon() || position.isFull()) {
+            return;
+        }
+        long key = position.positionHash();
+        if (database.get(key) == 0) {
+            int move = search.chooseMove(position);
+            SearchStats stats = search.getLastStats();
+            database.put(key, move, stats.getScore(), stats.getDepth());
+            analysed++;
+        }
+        if (ply == plies) {
+            return;
+        }
+        int[] moves = moveBuffers[ply];
+        int count = Math.min(width, position.generateMoves(moves));
+        for (int i = 0; i < count; i++) {
+            position.play(moves[i]);
+            visit(position, ply + 1);
+            position.undo();
+        }
+    }
+
+    /**
+     * Número máximo de posições percorridas
+     */
+    private static int capacityFor(int plies, int width) {
+        long total = 0;
+        long level = 1;
+        for (int ply = 0; ply <= plies; ply++) {
+            total += level;
+            level *= width;
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE / 4);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Uso: java PositionDatabaseBuilder arquivo (linhas colunas k | qubic) [jogadas] [largura] [tempo_ms]");
+            return;
+        }
+        Path path = Paths.get(args[0]);
+        boolean qubic = args[1].equalsIgnoreCase("qubic");
+        int next = qubic ? 2 : 4;
+        GamePosition root = qubic ? new QubicBoard()
+                : new MnkBoard(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        int plies = (args.length > next) ? Integer.parseInt(args[next]) : 2;
+        int width = (args.length > next + 1) ? Integer.parseInt(args[next + 1]) : 8;
+        long millis = (args.length > next + 2) ? Long.parseLong(args[next + 2]) : 200;
+
+        long start = System.nanoTime();
+        try (PositionDatabase database = PositionDatabase.create(path, capacityFor(plies, width))) {
+            PositionDatabaseBuilder builder = new PositionDatabaseBuilder(database, root.cellCount(), plies, width, millis);
+            int analysed = builder.build(root);
+            System.out.println(analysed + " posições analisadas em " + (System.nanoTime() - start) / 1000000
+                    + " ms; banco com " + database.size() + " posições em " + path);
+        }
+    }
+}
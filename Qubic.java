@@ -0,0 +1,209 @@
+import java.util.Arrays;
+
+/**
+ * Classe Qubic - Jogo da velha tridimensional 4x4x4
+ * Quatro camadas de 4x4; vence quem alinhar quatro símbolos em qualquer uma
+ * das 76 linhas (nas camadas, entre camadas ou nas diagonais do cubo)
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class Qubic {
+    
+    public static final int DEFAULT_SEARCH_DEPTH = 4; // Profundidade padrão do computador
+    
+    private final QubicBoard board = new QubicBoard();
+    private boolean computerMode; // Modo contra computador
+    private TicTacToe.Cell humanPlayer; // Símbolo do jogador humano (quando joga contra computador)
+    private AlphaBetaSearch search; // Busca usada nas jogadas do computador
+    private MoveListener[] listeners = new MoveListener[0]; // Avisados a cada mudança no tabuleiro
+    
+    /**
+     * Construtor - Dois jogadores humanos
+     */
+    public Qubic() {
+        computerMode = false;
+        if (GameMetrics.ENABLED) GameMetrics.get().recordGameStarted();
+    }
+    
+    /**
+     * Construtor para modo contra computador
+     * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
+     */
+    public Qubic(boolean humanGoesFirst) {
+        this(humanGoesFirst, DEFAULT_SEARCH_DEPTH);
+    }
+    
+    /**
+     * Construtor para modo contra computador com profundidade de busca específica
+     * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
+     * @param searchDepth profundidade da busca do computador, em jogadas
+     */
+    public Qubic(boolean humanGoesFirst, int searchDepth) {
+        if (GameMetrics.ENABLED) GameMetrics.get().recordGameStarted();
+        computerMode = true;
+        search = new AlphaBetaSearch(searchDepth);
+        humanPlayer = humanGoesFirst ? TicTacToe.Cell.X : TicTacToe.Cell.O;
+        if (!humanGoesFirst) {
+            makeComputerMove(); // Computador joga primeiro como X
+        }
+    }
+    
+    /**
+     * Faz uma jogada no tabuleiro
+     * @param layer camada (0-3)
+     * @param row linha (0-3)
+     * @param col coluna (0-3)
+     * @return true se a jogada foi válida, false caso contrário
+     */
+    public boolean makeMove(int layer, int row, int col) {
+        // Verifica se a posição é válida e está vazia
+        if (layer < 0 || layer > 3 || row < 0 || row > 3 || col < 0 || col > 3 ||
+            !board.isEmpty(cellIndex(layer, row, col)) || isGameOver()) {
+            if (GameMetrics.ENABLED) GameMetrics.get().recordMove(false);
+            return false;
+        }
+        
+        play(cellIndex(layer, row, col));
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().recordMove(true);
+            if (isGameOver()) GameMetrics.get().recordGameOver(getWinner());
+        }
+        
+        // Se estiver no modo computador e for a vez do computador, faz a jogada
+        if (computerMode && !isGameOver()) {
+            makeComputerMove();
+        }
+        return true;
+    }
+    
+    /**
+     * Faz a jogada do computador com a busca alfa-beta
+     */
+    private void makeComputerMove() {
+        if (isGameOver()) return;
+        if (GameMetrics.ENABLED) {
+            long start = System.nanoTime();
+            play(search.chooseMove(board));
+            GameMetrics.get().recordComputerMove(System.nanoTime() - start, search.getLastStats().getNodes());
+            if (isGameOver()) GameMetrics.get().recordGameOver(getWinner());
+        } else {
+            play(search.chooseMove(board));
+        }
+    }
+    
+    /**
+     * Ocupa uma célula com o jogador atual e avisa os ouvintes
+     */
+    private void play(int cell) {
+        TicTacToe.Cell player = getCurrentPlayer();
+        board.play(cell);
+        for (MoveListener listener : listeners) listener.cellChanged(cell, player);
+    }
+    
+    /**
+     * Registra um ouvinte das mudanças no tabuleiro
+     * @param listener avisado a cada célula ocupada e a cada reinício
+     */
+    public void addMoveListener(MoveListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+    
+    /**
+     * Índice da célula no tabuleiro
+     */
+    public static int cellIndex(int layer, int row, int col) {
+        return layer * 16 + row * 4 + col;
+    }
+    
+    /**
+     * Obtém o valor de uma célula
+     * @param layer camada (0-3)
+     * @param row linha (0-3)
+     * @param col coluna (0-3)
+     * @return o valor da célula (X, O ou EMPTY)
+     */
+    public TicTacToe.Cell getCell(int layer, int row, int col) {
+        return TicTacToe.Cell.values()[board.get(cellIndex(layer, row, col))];
+    }
+    
+    /**
+     * Retorna uma representação em string do tabuleiro, com as camadas lado a lado
+     * @return string representando o tabuleiro
+     */
+    public String displayBoard() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n");
+        for (int layer = 0; layer < 4; layer++) {
+            sb.append("  Camada ").append(layer).append("    ");
+        }
+        sb.append("\n");
+        for (int layer = 0; layer < 4; layer++) {
+            sb.append("  0 1 2 3     ");
+        }
+        sb.append("\n");
+        for (int row = 0; row < 4; row++) {
+            for (int layer = 0; layer < 4; layer++) {
+                sb.append(row);
+                for (int col = 0; col < 4; col++) {
+                    char symbol;
+                    switch (board.get(cellIndex(layer, row, col))) {
+                        case GamePosition.X: symbol = 'X'; break;
+                        case GamePosition.O: symbol = 'O'; break;
+                        default: symbol = '.'; break;
+                    }
+                    sb.append(' ').append(symbol);
+                }
+                sb.append("     ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Obtém uma cópia do tabuleiro, para buscas fora do jogo
+     * @return cópia independente do tabuleiro
+     */
+    public QubicBoard copyBoard() {
+        return board.copy();
+    }
+    
+    // Getters
+    public TicTacToe.Cell getCurrentPlayer() { return TicTacToe.Cell.values()[board.sideToMove()]; }
+    public boolean isGameWon() { return board.isWon(); }
+    public boolean isGameTied() { return !board.isWon() && board.isFull(); }
+    public boolean isGameOver() { return board.isWon() || board.isFull(); }
+    public boolean isComputerMode() { return computerMode; }
+    public TicTacToe.Cell getHumanPlayer() { return humanPlayer; }
+    public SearchStats getLastStats() { return (search == null) ? null : search.getLastStats(); }
+    
+    /**
+     * Obtém o símbolo do vencedor
+     * @return o símbolo do vencedor ou EMPTY se não há vencedor
+     */
+    public TicTacToe.Cell getWinner() {
+        return TicTacToe.Cell.values()[board.getWinner()];
+    }
+    
+    /**
+     * Hash de Zobrist da posição (ver GamePosition.positionHash)
+     * @return hash de 64 bits da posição
+     */
+    public long positionHash() {
+        return board.positionHash();
+    }
+    
+    /**
+     * Reinicia o jogo
+     */
+    public void resetGame() {
+        if (GameMetrics.ENABLED) GameMetrics.get().recordGameStarted();
+        board.clear();
+        for (MoveListener listener : listeners) listener.boardCleared();
+        if (computerMode && humanPlayer == TicTacToe.Cell.O) {
+            makeComputerMove();
+        }
+    }
+}
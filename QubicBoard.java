@@ -0,0 +1,257 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe QubicBoard - Tabuleiro 4x4x4 (Qubic) em máscaras de 64 bits
+ * Cada jogador ocupa um long (bit = layer * 16 + row * 4 + col) e a vitória
+ * é verificada com operações de bits nas 76 linhas vencedoras
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class QubicBoard implements GamePosition {
+    
+    public static final int SIZE = 4;
+    public static final int CELLS = 64;
+    
+    // Máscaras das 76 linhas vencedoras
+    static final long[] LINES;
+    
+    // Índices (em LINES) das linhas que passam por cada célula: 7 nos cantos
+    // e no cubo central, 4 nas demais
+    private static final int[][] LINES_THROUGH = new int[CELLS][];
+    
+    // Células em ordem de preferência: as que estão em mais linhas primeiro
+    private static final int[] CELL_ORDER = new int[CELLS];
+    
+    // Peso de uma linha com 0, 1, 2 ou 3 símbolos de um só jogador
+    private static final int[] LINE_WEIGHT = {0, 1, 8, 64};
+    
+    // Hash de Zobrist do tabuleiro vazio e chaves [2 * célula + jogador]
+    private static final long EMPTY_HASH = GamePosition.mix(CELLS);
+    private static final long[] ZOBRIST = GamePosition.zobristKeys(EMPTY_HASH, CELLS);
+    
+    static {
+        List<Long> lines = new ArrayList<>();
+        for (int dl = -1; dl <= 1; dl++) {
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    // Só uma direção de cada par oposto
+                    if (dl * 9 + dr * 3 + dc <= 0) continue;
+                    for (int start = 0; start < CELLS; start++) {
+                        long mask = lineFrom(start, dl, dr, dc);
+                        if (mask != 0) lines.add(mask);
+                    }
+                }
+            }
+        }
+        LINES = new long[lines.size()];
+        for (int i = 0; i < LINES.length; i++) LINES[i] = lines.get(i);
+        
+        for (int cell = 0; cell < CELLS; cell++) {
+            int count = 0;
+            for (long line : LINES) {
+                if ((line & (1L << cell)) != 0) count++;
+            }
+            LINES_THROUGH[cell] = new int[count];
+            count = 0;
+            for (int i = 0; i < LINES.length; i++) {
+                if ((LINES[i] & (1L << cell)) != 0) LINES_THROUGH[cell][count++] = i;
+            }
+        }
+        
+        int next = 0;
+        for (int lineCount = 7; lineCount >= 4; lineCount--) {
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (LINES_THROUGH[cell].length == lineCount) CELL_ORDER[next++] = cell;
+            }
+        }
+    }
+    
+    /**
+     * Máscara da linha de 4 células que começa em start na direção dada
+     * @return máscara da linha, ou 0 se ela sai do cubo
+     */
+    private static long lineFrom(int start, int dl, int dr, int dc) {
+        int layer = start / 16;
+        int row = (start / 4) % 4;
+        int col = start % 4;
+        long mask = 0;
+        for (int i = 0; i < SIZE; i++) {
+            int l = layer + i * dl;
+            int r = row + i * dr;
+            int c = col + i * dc;
+            if (l < 0 || l >= SIZE || r < 0 || r >= SIZE || c < 0 || c >= SIZE) return 0;
+            mask |= 1L << (l * 16 + r * 4 + c);
+        }
+        return mask;
+    }
+    
+    private final long[] bits = new long[2]; // Células de cada jogador
+    private final int[] history = new int[CELLS]; // Jogadas feitas, em ordem
+    private int moveCount;
+    private boolean won; // A última jogada completou uma linha
+    private long hash = EMPTY_HASH; // Hash de Zobrist da posição atual
+    
+    /**
+     * Construtor - Cria um tabuleiro vazio
+     */
+    public QubicBoard() {
+    }
+    
+    /**
+     * Construtor de cópia
+     * @param other tabuleiro a ser copiado
+     */
+    public QubicBoard(QubicBoard other) {
+        bits[X] = other.bits[X];
+        bits[O] = other.bits[O];
+        System.arraycopy(other.history, 0, history, 0, other.moveCount);
+        moveCount = other.moveCount;
+        won = other.won;
+        hash = other.hash;
+    }
+    
+    /**
+     * Limpa o tabuleiro
+     */
+    public void clear() {
+        bits[X] = 0;
+        bits[O] = 0;
+        moveCount = 0;
+        won = false;
+        hash = EMPTY_HASH;
+    }
+    
+    /**
+     * Obtém o valor de uma célula
+     * @param cell índice da célula (layer * 16 + row * 4 + col)
+     * @return X, O ou EMPTY
+     */
+    public int get(int cell) {
+        if ((bits[X] & (1L << cell)) != 0) return X;
+        if ((bits[O] & (1L << cell)) != 0) return O;
+        return EMPTY;
+    }
+    
+    @Override
+    public int cellCount() {
+        return CELLS;
+    }
+    
+    @Override
+    public boolean isEmpty(int cell) {
+        return ((bits[X] | bits[O]) & (1L << cell)) == 0;
+    }
+    
+    @Override
+    public int sideToMove() {
+        return moveCount & 1;
+    }
+    
+    @Override
+    public int moveCount() {
+        return moveCount;
+    }
+    
+    @Override
+    public void play(int cell) {
+        int player = moveCount & 1;
+        long own = bits[player] | (1L << cell);
+        bits[player] = own;
+        history[moveCount++] = cell;
+        hash ^= ZOBRIST[2 * cell + player];
+        won = completesLine(own, cell);
+    }
+    
+    @Override
+    public void undo() {
+        int cell = history[--moveCount];
+        bits[moveCount & 1] &= ~(1L << cell);
+        hash ^= ZOBRIST[2 * cell + (moveCount & 1)];
+        won = false; // O jogo continuava antes da jogada desfeita
+    }
+    
+    /**
+     * Verifica se ocupar a célula completaria uma linha do jogador
+     * @param cell índice de uma célula vazia
+     * @param player X ou O
+     * @return true se a jogada venceria o jogo
+     */
+    public boolean wouldWin(int cell, int player) {
+        return completesLine(bits[player] | (1L << cell), cell);
+    }
+    
+    private static boolean completesLine(long own, int cell) {
+        for (int line : LINES_THROUGH[cell]) {
+            if ((own & LINES[line]) == LINES[line]) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean isWon() {
+        return won;
+    }
+    
+    @Override
+    public boolean isFull() {
+        return moveCount == CELLS;
+    }
+    
+    @Override
+    public int evaluate() {
+        long mine = bits[moveCount & 1];
+        long theirs = bits[(moveCount & 1) ^ 1];
+        int score = 0;
+        for (long line : LINES) {
+            long m = mine & line;
+            long t = theirs & line;
+            if (t == 0) {
+                score += LINE_WEIGHT[Long.bitCount(m)];
+            } else if (m == 0) {
+                score -= LINE_WEIGHT[Long.bitCount(t)];
+            }
+        }
+        return score;
+    }
+    
+    @Override
+    public int generateMoves(int[] moves) {
+        long occupied = bits[X] | bits[O];
+        int count = 0;
+        for (int cell : CELL_ORDER) {
+            if ((occupied & (1L << cell)) == 0) moves[count++] = cell;
+        }
+        return count;
+    }
+    
+    @Override
+    public QubicBoard copy() {
+        return new QubicBoard(this);
+    }
+    
+    @Override
+    public long positionHash() {
+        return hash;
+    }
+    
+    /**
+     * Obtém as células de um jogador
+     * @param player X ou O
+     * @return máscara de 64 bits
+     */
+    public long getBits(int player) {
+        return bits[player];
+    }
+    
+    /**
+     * Obtém o jogador que completou uma linha
+     * @return X, O ou EMPTY
+     */
+    public int getWinner() {
+        return won ? (moveCount - 1) & 1 : EMPTY;
+    }
+}
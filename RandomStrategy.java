@@ -0,0 +1,49 @@
+import java.util.SplittableRandom;
+
+/**
+ * Classe RandomStrategy - Estratégia aleatória do computador
+ * Escolhe uma célula vazia qualquer, com a mesma probabilidade, sem alocar
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class RandomStrategy implements ComputerStrategy {
+    
+    private final SplittableRandom random;
+    private final SearchStats stats = new SearchStats();
+    
+    /**
+     * Construtor com semente aleatória
+     */
+    public RandomStrategy() {
+        this(new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Construtor com semente fixa, para simulações reproduzíveis
+     * @param seed semente do gerador
+     */
+    public RandomStrategy(long seed) {
+        random = new SplittableRandom(seed);
+    }
+    
+    @Override
+    public int chooseMove(TicTacToe game) {
+        long start = System.nanoTime();
+        MnkBoard board = game.getBoard();
+        int target = random.nextInt(board.getCellCount() - board.getMoveCount());
+        int move = -1;
+        for (int cell = 0; move < 0; cell++) {
+            if (board.isEmpty(cell) && target-- == 0) {
+                move = cell;
+            }
+        }
+        stats.record(0, System.nanoTime() - start, 0);
+        return move;
+    }
+    
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+}
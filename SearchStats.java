@@ -0,0 +1,56 @@
+/**
+ * Classe SearchStats - Estatísticas de uma escolha de jogada do computador
+ * Registra nós visitados, tempo gasto, o valor encontrado para a posição e,
+ * nas buscas em profundidade limitada, a profundidade alcançada
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class SearchStats {
+    
+    private long nodes; // Nós visitados na busca
+    private long elapsedNanos; // Tempo gasto na escolha
+    private int score; // Valor da posição para o jogador que escolheu
+    private int depth; // Profundidade alcançada (0 quando não se aplica)
+    
+    /**
+     * Registra o resultado de uma busca
+     * @param nodes nós visitados
+     * @param elapsedNanos tempo gasto em nanossegundos
+     * @param score valor da posição (> 0 vitória, 0 empate, < 0 derrota)
+     */
+    void record(long nodes, long elapsedNanos, int score) {
+        record(nodes, elapsedNanos, score, 0);
+    }
+    
+    /**
+     * Registra o resultado de uma busca em profundidade limitada
+     * @param nodes nós visitados
+     * @param elapsedNanos tempo gasto em nanossegundos
+     * @param score valor da posição (> 0 vitória, 0 empate, < 0 derrota)
+     * @param depth profundidade completada, em jogadas
+     */
+    void record(long nodes, long elapsedNanos, int score, int depth) {
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.score = score;
+        this.depth = depth;
+    }
+    
+    // Getters
+    public long getNodes() { return nodes; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public long getElapsedMicros() { return elapsedNanos / 1000; }
+    public int getScore() { return score; }
+    public int getDepth() { return depth; }
+    public long getNodesPerSecond() { return (elapsedNanos == 0) ? 0 : nodes * 1000000000L / elapsedNanos; }
+    
+    @Override
+    public String toString() {
+        String text = nodes + " nós em " + getElapsedMicros() + " µs (valor " + score + ")";
+        if (depth > 0) {
+            text += ", profundidade " + depth + ", " + getNodesPerSecond() + " nós/s";
+        }
+        return text;
+    }
+}
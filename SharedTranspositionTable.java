@@ -0,0 +1,62 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Classe SharedTranspositionTable - Tabela de transposição no heap, compartilhada entre threads
+ * Cada entrada ocupa dois longs: (hash XOR dados) e dados. Várias threads
+ * leem e gravam sem travas; se duas gravações se misturarem na mesma
+ * entrada, o XOR não confere com o hash e a leitura é tratada como ausente
+ * (técnica de Hyatt). Uma entrada por posição, sempre substituída, exceto
+ * por uma busca mais rasa da mesma posição. Para tabelas grandes, fora do
+ * heap e com estatísticas, ver OffHeapTranspositionTable.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class SharedTranspositionTable implements TranspositionTable {
+
+    private final AtomicLongArray slots; // [2 * i] = hash ^ dados, [2 * i + 1] = dados
+    private final int mask; // Entradas - 1 (potência de 2)
+
+    /**
+     * Construtor
+     * @param entries número mínimo de entradas (arredondado para potência de 2)
+     */
+    public SharedTranspositionTable(int entries) {
+        int size = Integer.highestOneBit(Math.max(1, entries - 1)) << 1;
+        this.slots = new AtomicLongArray(2 * size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public long probe(long hash) {
+        int index = 2 * ((int) hash & mask);
+        long data = slots.get(index + 1);
+        return ((slots.get(index) ^ data) == hash) ? data : 0;
+    }
+
+    @Override
+    public void store(long hash, long data) {
+        int index = 2 * ((int) hash & mask);
+        long old = slots.get(index + 1);
+        if ((slots.get(index) ^ old) == hash
+                && TranspositionTable.getDepth(old) > TranspositionTable.getDepth(data)) {
+            return;
+        }
+        slots.set(index + 1, data);
+        slots.set(index, hash ^ data);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    /**
+     * @return número de entradas
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Classe SolvedTable - Tabela com todas as posições do jogo da velha resolvidas
+ * As 5.478 posições legais são resolvidas uma única vez, na carga da classe,
+ * e cada jogada do computador passa a ser uma simples consulta à tabela
+ * 
+ * @author Copilot
+ * @version 1.0
+ */
+public class SolvedTable implements ComputerStrategy {
+    
+    private static final int POSITIONS = 19683; // 3^9 combinações de células
+    private static final int NO_MOVE = 0xF; // Posição terminal, sem jogada
+    
+    // Centro, cantos e bordas: em caso de empate no valor, vence a primeira
+    private static final int[] MOVE_ORDER = {4, 0, 2, 6, 8, 1, 3, 5, 7};
+    
+    // Valor em base 3 de cada máscara de 9 bits (cada bit vale 3^índice)
+    private static final int[] TERNARY = new int[1 << 9];
+    
+    // Entrada = jogada | (valor + 8) << 4; zero significa posição ilegal.
+    // Índice = TERNARY[x] + 2 * TERNARY[o]
+    private static final byte[] TABLE = new byte[POSITIONS];
+    
+    private static int positionCount;
+    
+    static {
+        for (int mask = 1; mask < TERNARY.length; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            int power = 1;
+            for (int i = 0; i < low; i++) power *= 3;
+            TERNARY[mask] = TERNARY[mask & (mask - 1)] + power;
+        }
+        solve(0, 0);
+    }
+    
+    private final SearchStats stats = new SearchStats();
+    
+    @Override
+    public int chooseMove(TicTacToe game) {
+        long start = System.nanoTime();
+        int entry = TABLE[index(game.getXBits(), game.getOBits())] & 0xFF;
+        stats.record(0, System.nanoTime() - start, (entry >> 4) - 8);
+        return entry & 0xF;
+    }
+    
+    @Override
+    public SearchStats getLastStats() {
+        return stats;
+    }
+    
+    /**
+     * Obtém a melhor jogada de uma posição
+     * @param xBits células ocupadas por X
+     * @param oBits células ocupadas por O
+     * @return índice da melhor jogada, ou -1 se a posição é terminal
+     */
+    public static int bestMove(int xBits, int oBits) {
+        int move = TABLE[index(xBits, oBits)] & 0xF;
+        return move == NO_MOVE ? -1 : move;
+    }
+    
+    /**
+     * Obtém o valor de uma posição para o jogador da vez
+     * @param xBits células ocupadas por X
+     * @param oBits células ocupadas por O
+     * @return valor (> 0 vitória, 0 empate, < 0 derrota), na escala do NegamaxEngine
+     */
+    public static int value(int xBits, int oBits) {
+        return ((TABLE[index(xBits, oBits)] & 0xFF) >> 4) - 8;
+    }
+    
+    /**
+     * Verifica se uma posição é alcançável em um jogo legal
+     * @param xBits células ocupadas por X
+     * @param oBits células ocupadas por O
+     * @return true se a posição está na tabela
+     */
+    public static boolean contains(int xBits, int oBits) {
+        return (xBits & oBits) == 0 && TABLE[index(xBits, oBits)] != 0;
+    }
+    
+    /**
+     * Obtém o número de posições legais resolvidas
+     * @return número de posições na tabela
+     */
+    public static int positionCount() {
+        return positionCount;
+    }
+    
+    private static int index(int xBits, int oBits) {
+        return TERNARY[xBits] + 2 * TERNARY[oBits];
+    }
+    
+    /**
+     * Resolve a posição e todas as suas sucessoras por busca exaustiva
+     * (sem poda, para que todos os valores sejam exatos)
+     * @param xBits células ocupadas por X
+     * @param oBits células ocupadas por O
+     * @return valor da posição para o jogador da vez
+     */
+    private static int solve(int xBits, int oBits) {
+        int index = index(xBits, oBits);
+        if (TABLE[index] != 0) {
+            return ((TABLE[index] & 0xFF) >> 4) - 8;
+        }
+        positionCount++;
+        
+        int occupied = xBits | oBits;
+        boolean xToMove = Integer.bitCount(xBits) == Integer.bitCount(oBits);
+        int value;
+        int bestMove = NO_MOVE;
+        
+        if (TicTacToe.checkForWin(xToMove ? oBits : xBits)) {
+            value = -(NegamaxEngine.WIN_SCORE - Integer.bitCount(occupied)); // Oponente já venceu
+        } else if (occupied == 0x1FF) {
+            value = 0; // Empate
+        } else {
+            value = -NegamaxEngine.WIN_SCORE;
+            for (int move : MOVE_ORDER) {
+                if ((occupied & (1 << move)) != 0) continue;
+                int score = xToMove
+                        ? -solve(xBits | (1 << move), oBits)
+                        : -solve(xBits, oBits | (1 << move));
+                if (score > value) {
+                    value = score;
+                    bestMove = move;
+                }
+            }
+        }
+        
+        TABLE[index] = (byte) (bestMove | (value + 8) << 4);
+        return value;
+    }
+}
@@ -0,0 +1,249 @@
+import java.util.Arrays;
+
+/**
+ * Classe ThreatEvaluator - Avaliação incremental por padrões para tabuleiros grandes
+ * Acompanha todas as janelas de k células em linha do tabuleiro (horizontais,
+ * verticais e diagonais) e quantas pedras de cada jogador há em cada uma. A
+ * cada jogada ou desfeita só as janelas que passam pela célula (no máximo
+ * 4k) são atualizadas, junto com:
+ *   - a contagem de padrões: janelas com n pedras de um jogador e nenhuma do
+ *     outro (n = k - 1 é um "quatro" no Gomoku, k - 2 um "três", k - 3 um "dois")
+ *   - a avaliação: soma de 8^(n-1) por janela de um só jogador, a mesma que
+ *     MnkBoard calculava percorrendo o tabuleiro inteiro
+ * As janelas com k - 1 e k - 2 pedras de um só jogador ficam também em
+ * conjuntos (lista e posição de cada janela), atualizados na mesma passada.
+ * Assim a avaliação de uma folha custa O(1), e a busca de ameaças
+ * (ThreatSpaceSearch) percorre só essas janelas, sem reexaminar o tabuleiro.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class ThreatEvaluator {
+
+    // Direções das linhas: horizontal, vertical, diagonal e diagonal secundária
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private final int winLength; // k
+    private final int windowCount;
+    private final int[] windowCells; // Células da janela w: windowCells[w * k .. w * k + k - 1]
+    private final int[][] windowsThrough; // Janelas que contêm cada célula
+    private final int[] weight; // Peso de uma janela com n pedras de um só jogador
+
+    private final int[][] stones; // stones[jogador][janela]: pedras do jogador na janela
+    private final int[][] patterns; // patterns[jogador][n]: janelas com n pedras só dele
+    private final int[][][] windowSets; // [jogador][0: k - 1 pedras, 1: k - 2][i]: janelas
+    private final int[][] setIndex; // [jogador][janela]: posição da janela no seu conjunto
+    private int score; // Avaliação para X
+
+    /**
+     * Construtor - Tabuleiro vazio
+     * @param rows número de linhas
+     * @param cols número de colunas
+     * @param winLength quantidade em linha para vencer
+     */
+    public ThreatEvaluator(int rows, int cols, int winLength) {
+        this.winLength = winLength;
+        int[] cells = new int[4 * rows * cols * winLength];
+        int[] throughCount = new int[rows * cols];
+        int count = 0;
+        for (int[] d : DIRECTIONS) {
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    int endRow = row + (winLength - 1) * d[0];
+                    int endCol = col + (winLength - 1) * d[1];
+                    if (endRow < 0 || endRow >= rows || endCol < 0 || endCol >= cols) {
+                        continue;
+                    }
+                    for (int i = 0; i < winLength; i++) {
+                        int cell = (row + i * d[0]) * cols + col + i * d[1];
+                        cells[count * winLength + i] = cell;
+                        throughCount[cell]++;
+                    }
+                    count++;
+                }
+            }
+        }
+        this.windowCount = count;
+        this.windowCells = Arrays.copyOf(cells, count * winLength);
+        this.windowsThrough = new int[rows * cols][];
+        for (int cell = 0; cell < rows * cols; cell++) {
+            windowsThrough[cell] = new int[throughCount[cell]];
+            throughCount[cell] = 0;
+        }
+        for (int w = 0; w < count; w++) {
+            for (int i = 0; i < winLength; i++) {
+                int cell = windowCells[w * winLength + i];
+                windowsThrough[cell][throughCount[cell]++] = w;
+            }
+        }
+        this.weight = new int[winLength + 1];
+        for (int n = 1; n <= winLength; n++) {
+            weight[n] = 1 << (3 * Math.min(n - 1, 9));
+        }
+        this.stones = new int[2][count];
+        this.patterns = new int[2][winLength + 1];
+        this.windowSets = new int[2][2][count];
+        this.setIndex = new int[2][count];
+    }
+
+    /**
+     * Construtor de cópia (as tabelas de janelas, imutáveis, são compartilhadas)
+     * @param other avaliador a ser copiado
+     */
+    public ThreatEvaluator(ThreatEvaluator other) {
+        this.winLength = other.winLength;
+        this.windowCount = other.windowCount;
+        this.windowCells = other.windowCells;
+        this.windowsThrough = other.windowsThrough;
+        this.weight = other.weight;
+        this.stones = new int[2][windowCount];
+        this.patterns = new int[2][winLength + 1];
+        this.windowSets = new int[2][2][windowCount];
+        this.setIndex = new int[2][windowCount];
+        copyFrom(other);
+    }
+
+    /**
+     * Copia o estado de outro avaliador do mesmo tabuleiro, sem alocar
+     * @param other avaliador de origem
+     */
+    public void copyFrom(ThreatEvaluator other) {
+        for (int player = 0; player < 2; player++) {
+            System.arraycopy(other.stones[player], 0, stones[player], 0, windowCount);
+            System.arraycopy(other.patterns[player], 0, patterns[player], 0, winLength + 1);
+            for (int set = 0; set < 2; set++) {
+                int size = setSize(player, set);
+                System.arraycopy(other.windowSets[player][set], 0, windowSets[player][set], 0, size);
+                for (int i = 0; i < size; i++) {
+                    setIndex[player][windowSets[player][set][i]] = i;
+                }
+            }
+        }
+        score = other.score;
+    }
+
+    /**
+     * Esvazia o tabuleiro
+     */
+    public void clear() {
+        Arrays.fill(stones[GamePosition.X], 0);
+        Arrays.fill(stones[GamePosition.O], 0);
+        Arrays.fill(patterns[GamePosition.X], 0);
+        Arrays.fill(patterns[GamePosition.O], 0);
+        score = 0;
+    }
+
+    /**
+     * Registra uma pedra colocada
+     * @param cell índice da célula
+     * @param player X ou O
+     */
+    public void place(int cell, int player) {
+        update(cell, player, 1);
+    }
+
+    /**
+     * Registra uma pedra retirada (jogada desfeita)
+     * @param cell índice da célula
+     * @param player X ou O
+     */
+    public void remove(int cell, int player) {
+        update(cell, player, -1);
+    }
+
+    private void update(int cell, int player, int delta) {
+        int[] own = stones[player];
+        int[] other = stones[player ^ 1];
+        for (int w : windowsThrough[cell]) {
+            forget(w, own[w], other[w], player);
+            own[w] += delta;
+            count(w, own[w], other[w], player);
+        }
+    }
+
+    /**
+     * Retira a contribuição da janela w (own pedras do jogador, other do adversário)
+     */
+    private void forget(int w, int own, int other, int player) {
+        if (other == 0 && own > 0) {
+            removePattern(player, own, w);
+            score -= (player == GamePosition.X) ? weight[own] : -weight[own];
+        } else if (own == 0 && other > 0) {
+            removePattern(player ^ 1, other, w);
+            score -= (player == GamePosition.X) ? -weight[other] : weight[other];
+        }
+    }
+
+    private void count(int w, int own, int other, int player) {
+        if (other == 0 && own > 0) {
+            addPattern(player, own, w);
+            score += (player == GamePosition.X) ? weight[own] : -weight[own];
+        } else if (own == 0 && other > 0) {
+            addPattern(player ^ 1, other, w);
+            score += (player == GamePosition.X) ? -weight[other] : weight[other];
+        }
+    }
+
+    private void addPattern(int player, int n, int w) {
+        int set = winLength - 1 - n;
+        if (set == 0 || set == 1) {
+            int size = setSize(player, set);
+            windowSets[player][set][size] = w;
+            setIndex[player][w] = size;
+        }
+        patterns[player][n]++;
+    }
+
+    private void removePattern(int player, int n, int w) {
+        patterns[player][n]--;
+        int set = winLength - 1 - n;
+        if (set == 0 || set == 1) {
+            // A última janela do conjunto ocupa o lugar da que sai
+            int last = windowSets[player][set][setSize(player, set)];
+            windowSets[player][set][setIndex[player][w]] = last;
+            setIndex[player][last] = setIndex[player][w];
+        }
+    }
+
+    /**
+     * Tamanho de um conjunto de janelas (é a contagem do padrão correspondente)
+     */
+    private int setSize(int player, int set) {
+        int n = winLength - 1 - set;
+        return (n > 0) ? patterns[player][n] : 0;
+    }
+
+    /**
+     * Avaliação da posição
+     * @param player jogador do ponto de vista da avaliação
+     * @return soma dos pesos das janelas (positiva se favorável ao jogador)
+     */
+    public int getScore(int player) {
+        return (player == GamePosition.X) ? score : -score;
+    }
+
+    /**
+     * Quantidade de janelas com um padrão
+     * @param player X ou O
+     * @param stonesInWindow pedras do jogador na janela (sem pedras do adversário)
+     * @return número de janelas (ex: stonesInWindow = k - 1 conta os quatros no Gomoku)
+     */
+    public int getPatternCount(int player, int stonesInWindow) {
+        return patterns[player][stonesInWindow];
+    }
+
+    /**
+     * Janela com k - 1 ou k - 2 pedras de um só jogador, para a busca de ameaças
+     * @param player X ou O
+     * @param stonesInWindow k - 1 ou k - 2
+     * @param index de 0 a getPatternCount(player, stonesInWindow) - 1
+     * @return índice da janela
+     */
+    int getThreatWindow(int player, int stonesInWindow, int index) {
+        return windowSets[player][winLength - 1 - stonesInWindow][index];
+    }
+
+    // Janelas, para a busca de ameaças
+    int getWinLength() { return winLength; }
+    int getWindowCell(int window, int index) { return windowCells[window * winLength + index]; }
+}
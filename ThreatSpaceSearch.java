@@ -0,0 +1,200 @@
+/**
+ * Classe ThreatSpaceSearch - Busca de vitória forçada por ameaças
+ * Em vez de todas as jogadas, o atacante só considera as que criam um
+ * "quatro" (janela com k - 1 pedras suas e nenhuma do adversário), e o
+ * defensor só tem uma resposta: bloquear a célula que completaria a linha.
+ * Com dois quatros de uma vez o bloqueio é impossível e a vitória está
+ * provada. Se o defensor ameaça vencer, o atacante precisa bloquear, e a
+ * sequência só continua se o bloqueio também criar um quatro. Como cada
+ * resposta é forçada, a árvore é estreita e a busca chega a dezenas de
+ * jogadas em milissegundos; as ameaças vêm dos conjuntos de janelas com
+ * k - 1 e k - 2 pedras mantidos pelo ThreatEvaluator, sem percorrer as
+ * linhas do tabuleiro. O limite de ameaças cresce de um em
+ * um, então a sequência encontrada é a mais curta.
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class ThreatSpaceSearch {
+
+    public static final int DEFAULT_MAX_THREATS = 12; // Jogadas do atacante
+    public static final long DEFAULT_MAX_NODES = 100000;
+
+    private final int maxThreats;
+    private final long maxNodes;
+    private long nodes;
+    private long deadline; // Instante-limite (System.nanoTime), ou AlphaBetaSearch.NO_DEADLINE
+    private boolean aborted; // Prazo ou limite de nós esgotado na última busca
+    private int winPlies; // Jogadas até a vitória encontrada (contando as do defensor)
+
+    // Buffers reutilizados: candidatas por nível e marca de células já incluídas
+    private int[][] candidates = new int[0][];
+    private int[] seen = new int[0];
+    private int stamp;
+    private final int[] found = new int[2];
+
+    /**
+     * Construtor com os limites padrão
+     */
+    public ThreatSpaceSearch() {
+        this(DEFAULT_MAX_THREATS, DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Construtor
+     * @param maxThreats máximo de ameaças (jogadas do atacante) na sequência
+     * @param maxNodes máximo de posições examinadas por busca
+     */
+    public ThreatSpaceSearch(int maxThreats, long maxNodes) {
+        this.maxThreats = maxThreats;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Procura uma vitória forçada por quatros para o jogador da vez, sem prazo
+     * @param board tabuleiro grande (com ThreatEvaluator); alterado durante a busca e restaurado ao final
+     * @return primeira jogada da sequência vencedora, ou -1 se nenhuma foi encontrada
+     */
+    public int findWin(MnkBoard board) {
+        return findWin(board, AlphaBetaSearch.NO_DEADLINE);
+    }
+
+    /**
+     * Procura uma vitória forçada por quatros para o jogador da vez
+     * @param board tabuleiro grande (com ThreatEvaluator); alterado durante a busca e restaurado ao final
+     * @param deadline instante-limite em System.nanoTime(), ou AlphaBetaSearch.NO_DEADLINE
+     * @return primeira jogada da sequência vencedora, ou -1 se nenhuma foi encontrada
+     *         (ou se o prazo acabou antes, ver wasAborted)
+     */
+    public int findWin(MnkBoard board, long deadline) {
+        this.deadline = deadline;
+        nodes = 0;
+        winPlies = 0;
+        aborted = false;
+        ThreatEvaluator threats = board.getThreatEvaluator();
+        if (threats == null || board.isWon() || board.isFull()) {
+            return -1;
+        }
+        if (candidates.length != maxThreats + 1 || seen.length != board.getCellCount()) {
+            candidates = new int[maxThreats + 1][board.getCellCount()];
+            seen = new int[board.getCellCount()];
+        }
+        for (int limit = 1; limit <= maxThreats && !aborted; limit++) {
+            int move = search(board, threats, board.sideToMove(), 0, limit);
+            if (move >= 0) {
+                return move;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Vez do atacante
+     * @return jogada que força a vitória, ou -1
+     */
+    private int search(MnkBoard board, ThreatEvaluator threats, int attacker, int level, int limit) {
+        nodes++;
+        // Consulta o relógio (e a interrupção da thread) a cada 256 nós, como a busca alfa-beta
+        if (aborted || nodes > maxNodes || ((nodes & 255) == 0 && (Thread.currentThread().isInterrupted()
+                || (deadline != AlphaBetaSearch.NO_DEADLINE && System.nanoTime() - deadline >= 0)))) {
+            aborted = true;
+            return -1;
+        }
+        int defender = attacker ^ 1;
+        if (winningCells(board, threats, attacker) > 0) {
+            winPlies = 2 * level + 1;
+            return found[0];
+        }
+        if (level == limit) {
+            return -1;
+        }
+
+        int[] moves = candidates[level];
+        int count;
+        int defenderWins = winningCells(board, threats, defender);
+        if (defenderWins > 1) {
+            return -1; // Dois quatros do adversário: não há como bloquear ambos
+        } else if (defenderWins == 1) {
+            moves[0] = found[0];
+            count = 1;
+        } else {
+            count = fourMoves(board, threats, attacker, moves);
+        }
+
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            board.place(move, attacker);
+            int wins = winningCells(board, threats, attacker);
+            int result = -1;
+            if (wins > 1) {
+                winPlies = 2 * level + 3; // Quatro duplo: o defensor bloqueia um, o outro vence
+                result = move;
+            } else if (wins == 1) {
+                board.place(found[0], defender);
+                if (search(board, threats, attacker, level + 1, limit) >= 0) {
+                    result = move;
+                }
+                board.undo();
+            }
+            board.undo();
+            if (result >= 0) {
+                return result;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Procura as células que completariam uma linha do jogador
+     * @return quantas células distintas foram encontradas (no máximo 2, em found)
+     */
+    private int winningCells(MnkBoard board, ThreatEvaluator threats, int player) {
+        int k = threats.getWinLength();
+        int count = 0;
+        int windows = threats.getPatternCount(player, k - 1);
+        for (int j = 0; j < windows; j++) {
+            int w = threats.getThreatWindow(player, k - 1, j);
+            for (int i = 0; i < k; i++) {
+                int cell = threats.getWindowCell(w, i);
+                if (board.isEmpty(cell)) {
+                    if (count == 0 || found[0] != cell) {
+                        found[count++] = cell;
+                        if (count == 2) return count;
+                    }
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gera, sem repetição, as células vazias que criam um quatro do jogador
+     * (as das janelas com k - 2 pedras suas e nenhuma do adversário)
+     */
+    private int fourMoves(MnkBoard board, ThreatEvaluator threats, int player, int[] moves) {
+        int k = threats.getWinLength();
+        if (k < 3) {
+            return 0;
+        }
+        int count = 0;
+        stamp++;
+        int windows = threats.getPatternCount(player, k - 2);
+        for (int j = 0; j < windows; j++) {
+            int w = threats.getThreatWindow(player, k - 2, j);
+            for (int i = 0; i < k; i++) {
+                int cell = threats.getWindowCell(w, i);
+                if (board.isEmpty(cell) && seen[cell] != stamp) {
+                    seen[cell] = stamp;
+                    moves[count++] = cell;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Getters
+    public long getNodes() { return nodes; }
+    public int getWinPlies() { return winPlies; }
+    public boolean wasAborted() { return aborted; }
+}
@@ -1,3 +1,7 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
 /**
  * Classe TicTacToe - Implementação do jogo da velha
  * Permite dois jogadores humanos ou um jogador contra o computador
@@ -12,18 +16,53 @@ public class TicTacToe {
         X, O, EMPTY
     }
     
-    private Cell[][] board; // Tabuleiro 3x3
+    // Máscaras das 8 linhas vencedoras do tabuleiro clássico (bit = row * 3 + col),
+    // usadas pelas estratégias 3x3; ordem: linha 0, coluna 0, linha 1, coluna 1,
+    // linha 2, coluna 2, diagonais
+    static final int[] WIN_LINES = {
+        0x007, 0x049, 0x038, 0x092, 0x1C0, 0x124, 0x111, 0x054
+    };
+    
+    private final MnkBoard board; // Tabuleiro m x n com k em linha (com a pilha de jogadas)
+    private final int[] redoStack; // Jogadas desfeitas que podem ser refeitas
+    private int redoCount; // Jogadas na pilha de refazer
+    private Cell winner; // Vencedor, calculado uma única vez ao fim do jogo
     private Cell currentPlayer; // Jogador atual
     private boolean gameWon; // Indica se o jogo foi ganho
     private boolean gameTied; // Indica se houve empate
     private boolean computerMode; // Modo contra computador
     private Cell humanPlayer; // Símbolo do jogador humano (quando joga contra computador)
+    private ComputerStrategy strategy; // Estratégia usada nas jogadas do computador
+    private MoveListener[] listeners = NO_LISTENERS; // Avisados a cada mudança no tabuleiro
+    
+    private static final MoveListener[] NO_LISTENERS = new MoveListener[0];
     
     /**
-     * Construtor - Inicializa o tabuleiro com células vazias
+     * Construtor - Inicializa o tabuleiro 3x3 com células vazias
      */
     public TicTacToe() {
-        board = new Cell[3][3];
+        this(3, 3, 3);
+    }
+    
+    /**
+     * Construtor para tabuleiros m x n com k em linha (ex: 15 x 15 com 5 em linha)
+     * @param rows número de linhas
+     * @param cols número de colunas
+     * @param winLength quantidade de símbolos em linha para vencer
+     */
+    public TicTacToe(int rows, int cols, int winLength) {
+        this(new MnkBoard(rows, cols, winLength));
+        if (GameMetrics.ENABLED) GameMetrics.get().recordGameStarted();
+    }
+    
+    /**
+     * Construtor sem registro nas métricas, para posições montadas a partir
+     * de texto (fromBoardString), que não são partidas começadas
+     * @param board tabuleiro vazio
+     */
+    private TicTacToe(MnkBoard board) {
+        this.board = board;
+        redoStack = new int[board.getCellCount()];
         initializeBoard();
         currentPlayer = Cell.X; // X sempre começa
         gameWon = false;
@@ -31,13 +70,66 @@ public class TicTacToe {
         computerMode = false;
     }
     
+    /**
+     * Construtor de cópia, para analisar o jogo sem alterá-lo (por exemplo,
+     * em outra thread). A cópia compartilha a estratégia do computador, mas
+     * não os MoveListeners.
+     * @param other jogo a ser copiado
+     */
+    public TicTacToe(TicTacToe other) {
+        board = new MnkBoard(other.board);
+        redoStack = other.redoStack.clone();
+        redoCount = other.redoCount;
+        winner = other.winner;
+        currentPlayer = other.currentPlayer;
+        gameWon = other.gameWon;
+        gameTied = other.gameTied;
+        computerMode = other.computerMode;
+        humanPlayer = other.humanPlayer;
+        strategy = other.strategy;
+    }
+    
     /**
      * Construtor para modo contra computador
      * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
      */
     public TicTacToe(boolean humanGoesFirst) {
-        this();
+        this(humanGoesFirst, new SolvedTable());
+    }
+    
+    /**
+     * Construtor para modo contra computador com uma estratégia específica
+     * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
+     * @param strategy estratégia usada nas jogadas do computador
+     */
+    public TicTacToe(boolean humanGoesFirst, ComputerStrategy strategy) {
+        this(3, 3, 3, humanGoesFirst, strategy);
+    }
+    
+    /**
+     * Construtor para modo contra computador em tabuleiros m x n com k em linha,
+     * usando a busca com aprofundamento iterativo e prazo padrão por jogada
+     * @param rows número de linhas
+     * @param cols número de colunas
+     * @param winLength quantidade de símbolos em linha para vencer
+     * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
+     */
+    public TicTacToe(int rows, int cols, int winLength, boolean humanGoesFirst) {
+        this(rows, cols, winLength, humanGoesFirst, new IterativeDeepeningSearch());
+    }
+    
+    /**
+     * Construtor para modo contra computador em tabuleiros m x n com k em linha
+     * @param rows número de linhas
+     * @param cols número de colunas
+     * @param winLength quantidade de símbolos em linha para vencer
+     * @param humanGoesFirst true se o humano joga primeiro, false se o computador joga primeiro
+     * @param strategy estratégia usada nas jogadas do computador
+     */
+    public TicTacToe(int rows, int cols, int winLength, boolean humanGoesFirst, ComputerStrategy strategy) {
+        this(rows, cols, winLength);
         computerMode = true;
+        this.strategy = strategy;
         if (humanGoesFirst) {
             humanPlayer = Cell.X;
             currentPlayer = Cell.X;
@@ -52,31 +144,60 @@ public class TicTacToe {
      * Inicializa todas as células do tabuleiro como EMPTY
      */
     private void initializeBoard() {
-        for (int row = 0; row < 3; row++) {
-            for (int col = 0; col < 3; col++) {
-                board[row][col] = Cell.EMPTY;
+        board.clear();
+        redoCount = 0;
+        winner = Cell.EMPTY;
+        for (MoveListener listener : listeners) listener.boardCleared();
+    }
+    
+    /**
+     * Registra um ouvinte das mudanças no tabuleiro
+     * @param listener avisado a cada célula ocupada ou liberada e a cada reinício
+     */
+    public void addMoveListener(MoveListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+    
+    /**
+     * Remove um ouvinte registrado com addMoveListener
+     * @param listener ouvinte a remover
+     */
+    public void removeMoveListener(MoveListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                MoveListener[] remaining = new MoveListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, remaining, 0, i);
+                System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+                listeners = remaining;
+                return;
             }
         }
     }
     
     /**
      * Faz uma jogada no tabuleiro
-     * @param row linha (0-2)
-     * @param col coluna (0-2)
+     * @param row linha (0 a rows - 1)
+     * @param col coluna (0 a cols - 1)
      * @return true se a jogada foi válida, false caso contrário
      */
     public boolean makeMove(int row, int col) {
         // Verifica se a posição é válida e está vazia
-        if (row < 0 || row > 2 || col < 0 || col > 2 || 
-            board[row][col] != Cell.EMPTY || gameWon || gameTied) {
+        if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols() || 
+            !board.isEmpty(row * board.getCols() + col) || gameWon || gameTied) {
+            if (GameMetrics.ENABLED) GameMetrics.get().recordMove(false);
             return false;
         }
         
-        // Faz a jogada
-        board[row][col] = currentPlayer;
+        // Uma jogada nova descarta as jogadas desfeitas
+        redoCount = 0;
         
-        // Verifica se o jogo terminou
-        checkGameStatus();
+        // Faz a jogada e verifica se o jogo terminou
+        place(row * board.getCols() + col, currentPlayer);
+        if (GameMetrics.ENABLED) {
+            GameMetrics.get().recordMove(true);
+            if (gameWon || gameTied) GameMetrics.get().recordGameOver(winner);
+        }
         
         // Troca o jogador se o jogo não terminou
         if (!gameWon && !gameTied) {
@@ -92,190 +213,216 @@ public class TicTacToe {
     }
     
     /**
-     * Faz a jogada do computador usando estratégia básica
+     * Faz a jogada do computador usando a estratégia configurada
      */
     private void makeComputerMove() {
         if (gameWon || gameTied) return;
         
-        // Estratégia do computador:
-        // 1. Tenta ganhar
-        // 2. Tenta bloquear o oponente
-        // 3. Joga no centro se disponível
-        // 4. Joga nos cantos
-        // 5. Joga nas bordas
-        
         Cell computer = (humanPlayer == Cell.X) ? Cell.O : Cell.X;
-        Cell human = humanPlayer;
-        
-        // 1. Tenta ganhar
-        if (tryToWin(computer)) return;
-        
-        // 2. Tenta bloquear o oponente
-        if (tryToWin(human)) return;
-        
-        // 3. Joga no centro se disponível
-        if (board[1][1] == Cell.EMPTY) {
-            board[1][1] = computer;
-            checkGameStatus();
-            if (!gameWon && !gameTied) {
-                currentPlayer = humanPlayer;
-            }
-            return;
+        if (GameMetrics.ENABLED) {
+            long start = System.nanoTime();
+            int move = strategy.chooseMove(this);
+            GameMetrics.get().recordComputerMove(System.nanoTime() - start, strategy.getLastStats().getNodes());
+            place(move, computer);
+            if (gameWon || gameTied) GameMetrics.get().recordGameOver(winner);
+        } else {
+            place(strategy.chooseMove(this), computer);
         }
-        
-        // 4. Joga nos cantos
-        int[][] corners = {{0,0}, {0,2}, {2,0}, {2,2}};
-        for (int[] corner : corners) {
-            if (board[corner[0]][corner[1]] == Cell.EMPTY) {
-                board[corner[0]][corner[1]] = computer;
-                checkGameStatus();
-                if (!gameWon && !gameTied) {
-                    currentPlayer = humanPlayer;
-                }
-                return;
-            }
+        if (!gameWon && !gameTied) {
+            currentPlayer = humanPlayer;
         }
-        
-        // 5. Joga nas bordas
-        int[][] edges = {{0,1}, {1,0}, {1,2}, {2,1}};
-        for (int[] edge : edges) {
-            if (board[edge[0]][edge[1]] == Cell.EMPTY) {
-                board[edge[0]][edge[1]] = computer;
-                checkGameStatus();
-                if (!gameWon && !gameTied) {
-                    currentPlayer = humanPlayer;
-                }
-                return;
-            }
+    }
+    
+    /**
+     * Jogada de baixo nível para buscas: ocupa uma célula vazia com o jogador
+     * atual, atualiza vitória, empate e jogador atual, mas não valida a
+     * jogada nem aciona o computador. Desfeita por unplay().
+     * @param index índice da célula (row * cols + col), vazia e com o jogo em andamento
+     */
+    public void play(int index) {
+        redoCount = 0;
+        place(index, currentPlayer);
+        if (!gameWon && !gameTied) {
+            currentPlayer = (currentPlayer == Cell.X) ? Cell.O : Cell.X;
         }
     }
     
     /**
-     * Tenta fazer uma jogada vencedora ou bloqueadora
-     * @param player o jogador para o qual tentar a jogada
-     * @return true se conseguiu fazer a jogada, false caso contrário
+     * Desfaz a última jogada (de play, makeMove ou do computador), restaurando
+     * vitória, empate e jogador atual sem recalcular o tabuleiro
+     * @throws IllegalStateException se o tabuleiro está vazio
      */
-    private boolean tryToWin(Cell player) {
-        // Verifica linhas, colunas e diagonais
-        for (int i = 0; i < 3; i++) {
-            // Verifica linhas
-            if (canWinInLine(i, 0, i, 1, i, 2, player)) return true;
-            // Verifica colunas
-            if (canWinInLine(0, i, 1, i, 2, i, player)) return true;
+    public void unplay() {
+        if (board.getMoveCount() == 0) {
+            throw new IllegalStateException("Nenhuma jogada para desfazer");
         }
-        
-        // Verifica diagonais
-        if (canWinInLine(0, 0, 1, 1, 2, 2, player)) return true;
-        if (canWinInLine(0, 2, 1, 1, 2, 0, player)) return true;
-        
-        return false;
+        int cell = board.getLastMove();
+        board.undo();
+        for (MoveListener listener : listeners) listener.cellChanged(cell, Cell.EMPTY);
+        gameWon = false;
+        gameTied = false;
+        winner = Cell.EMPTY;
+        currentPlayer = (board.sideToMove() == MnkBoard.X) ? Cell.X : Cell.O;
     }
     
     /**
-     * Verifica se é possível ganhar em uma linha específica
+     * Desfaz a última jogada. No modo contra computador, desfaz a última
+     * jogada do humano e a resposta do computador que veio depois dela.
+     * @return true se alguma jogada foi desfeita
      */
-    private boolean canWinInLine(int r1, int c1, int r2, int c2, int r3, int c3, Cell player) {
-        Cell[] line = {board[r1][c1], board[r2][c2], board[r3][c3]};
-        
-        // Conta quantas células o jogador tem nesta linha
-        int playerCount = 0;
-        int emptyCount = 0;
-        int emptyIndex = -1;
-        
-        for (int i = 0; i < 3; i++) {
-            if (line[i] == player) {
-                playerCount++;
-            } else if (line[i] == Cell.EMPTY) {
-                emptyCount++;
-                emptyIndex = i;
-            }
+    public boolean undoMove() {
+        if (!canUndo()) {
+            return false;
         }
-        
-        // Se tem 2 do jogador e 1 vazia, pode ganhar/bloquear
-        if (playerCount == 2 && emptyCount == 1) {
-            Cell computer = (humanPlayer == Cell.X) ? Cell.O : Cell.X;
-            
-            // Faz a jogada na posição vazia
-            if (emptyIndex == 0) board[r1][c1] = computer;
-            else if (emptyIndex == 1) board[r2][c2] = computer;
-            else board[r3][c3] = computer;
-            
-            checkGameStatus();
-            if (!gameWon && !gameTied) {
-                currentPlayer = humanPlayer;
-            }
-            return true;
+        do {
+            redoStack[redoCount++] = board.getLastMove();
+            unplay();
+        } while (computerMode && currentPlayer != humanPlayer);
+        return true;
+    }
+    
+    /**
+     * Refaz a última jogada desfeita. No modo contra computador, refaz também
+     * a resposta do computador, sem buscar de novo.
+     * @return true se alguma jogada foi refeita
+     */
+    public boolean redoMove() {
+        if (redoCount == 0) {
+            return false;
         }
-        
-        return false;
+        do {
+            int remaining = redoCount - 1;
+            play(redoStack[remaining]); // play() descarta a pilha de refazer
+            redoCount = remaining;
+        } while (computerMode && currentPlayer != humanPlayer && redoCount > 0);
+        return true;
+    }
+    
+    /**
+     * Verifica se há jogada para desfazer (no modo contra computador, é
+     * preciso haver ao menos uma jogada do humano)
+     * @return true se undoMove() desfaria alguma jogada
+     */
+    public boolean canUndo() {
+        int firstHumanMove = (computerMode && humanPlayer == Cell.O) ? 1 : 0;
+        return board.getMoveCount() > firstHumanMove;
+    }
+    
+    /**
+     * Verifica se há jogada para refazer
+     * @return true se redoMove() refaria alguma jogada
+     */
+    public boolean canRedo() {
+        return redoCount > 0;
     }
     
     /**
-     * Verifica o status do jogo (vitória ou empate)
+     * Marca uma célula para o jogador e atualiza o status do jogo
+     * @param index índice da célula (row * cols + col)
+     * @param player jogador que ocupa a célula
      */
-    private void checkGameStatus() {
-        // Verifica vitória
-        gameWon = checkForWin();
+    private void place(int index, Cell player) {
+        // Só quem acabou de jogar pode ter vencido, e só nas linhas da jogada
+        gameWon = board.place(index, player.ordinal());
+        if (gameWon) {
+            winner = player;
+        }
         
         // Verifica empate (se não houve vitória e o tabuleiro está cheio)
         if (!gameWon) {
-            gameTied = isBoardFull();
+            gameTied = board.isFull();
         }
+        for (MoveListener listener : listeners) listener.cellChanged(index, player);
     }
     
     /**
-     * Verifica se há uma vitória no tabuleiro
-     * @return true se alguém ganhou, false caso contrário
+     * Hash de Zobrist da posição, mantido pelo tabuleiro a cada jogada e
+     * desfeita (ver GamePosition.positionHash)
+     * @return hash de 64 bits da posição
      */
-    private boolean checkForWin() {
-        // Verifica linhas
-        for (int row = 0; row < 3; row++) {
-            if (board[row][0] != Cell.EMPTY && 
-                board[row][0] == board[row][1] && 
-                board[row][1] == board[row][2]) {
-                return true;
+    public long positionHash() {
+        return board.positionHash();
+    }
+    
+    /**
+     * Tabuleiro em uma linha: uma letra por célula (X, O ou .), linha a linha
+     * @return texto do tabuleiro (ex: "X...O....")
+     */
+    public String toBoardString() {
+        StringBuilder sb = new StringBuilder(board.getCellCount());
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            switch (board.get(cell)) {
+                case MnkBoard.X: sb.append('X'); break;
+                case MnkBoard.O: sb.append('O'); break;
+                default: sb.append('.');
             }
         }
-        
-        // Verifica colunas
-        for (int col = 0; col < 3; col++) {
-            if (board[0][col] != Cell.EMPTY && 
-                board[0][col] == board[1][col] && 
-                board[1][col] == board[2][col]) {
-                return true;
+        return sb.toString();
+    }
+    
+    /**
+     * Cria um jogo 3x3 para dois jogadores a partir do tabuleiro em uma linha
+     * @param text nove letras (X, O ou .), linha a linha
+     * @return jogo na posição dada, com vez, vitória e empate calculados
+     * @throws IllegalArgumentException se o texto é inválido ou a posição é inalcançável
+     */
+    public static TicTacToe fromBoardString(String text) {
+        if (text.length() != 9) {
+            throw new IllegalArgumentException("O tabuleiro deve ter 9 células: " + text);
+        }
+        int xBits = 0;
+        int oBits = 0;
+        for (int cell = 0; cell < 9; cell++) {
+            char c = text.charAt(cell);
+            if (c == 'X') {
+                xBits |= 1 << cell;
+            } else if (c == 'O') {
+                oBits |= 1 << cell;
+            } else if (c != '.') {
+                throw new IllegalArgumentException("Célula inválida: " + c);
             }
         }
-        
-        // Verifica diagonal principal
-        if (board[0][0] != Cell.EMPTY && 
-            board[0][0] == board[1][1] && 
-            board[1][1] == board[2][2]) {
-            return true;
+        if (!SolvedTable.contains(xBits, oBits)) {
+            throw new IllegalArgumentException("Posição inalcançável: " + text);
         }
-        
-        // Verifica diagonal secundária
-        if (board[0][2] != Cell.EMPTY && 
-            board[0][2] == board[1][1] && 
-            board[1][1] == board[2][0]) {
-            return true;
+        TicTacToe game = new TicTacToe(new MnkBoard(3, 3, 3));
+        replay(game, xBits, oBits);
+        return game;
+    }
+    
+    /**
+     * Joga as células dadas em uma ordem legal: a última jogada é uma peça
+     * cuja retirada deixa uma posição alcançável e ainda em andamento
+     */
+    private static void replay(TicTacToe game, int xBits, int oBits) {
+        if ((xBits | oBits) == 0) {
+            return;
+        }
+        boolean xMovedLast = Integer.bitCount(xBits) > Integer.bitCount(oBits);
+        for (int bits = xMovedLast ? xBits : oBits; bits != 0; bits &= bits - 1) {
+            int cell = Integer.numberOfTrailingZeros(bits);
+            int previousX = xMovedLast ? xBits & ~(1 << cell) : xBits;
+            int previousO = xMovedLast ? oBits : oBits & ~(1 << cell);
+            if (SolvedTable.contains(previousX, previousO) && !checkForWin(previousX) && !checkForWin(previousO)) {
+                replay(game, previousX, previousO);
+                game.play(cell);
+                return;
+            }
         }
-        
-        return false;
     }
     
     /**
-     * Verifica se o tabuleiro está cheio
-     * @return true se está cheio, false caso contrário
+     * Verifica se um conjunto de células do tabuleiro clássico contém uma linha vencedora
+     * @param bits células de um jogador (9 bits)
+     * @return true se o jogador completou uma linha, false caso contrário
      */
-    private boolean isBoardFull() {
-        for (int row = 0; row < 3; row++) {
-            for (int col = 0; col < 3; col++) {
-                if (board[row][col] == Cell.EMPTY) {
-                    return false;
-                }
+    static boolean checkForWin(int bits) {
+        for (int line : WIN_LINES) {
+            if ((bits & line) == line) {
+                return true;
             }
         }
-        return true;
+        return false;
     }
     
     /**
@@ -284,38 +431,133 @@ public class TicTacToe {
      */
     public String displayBoard() {
         StringBuilder sb = new StringBuilder();
-        sb.append("\n  0   1   2\n");
+        try {
+            renderBoard(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder não lança IOException
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Escreve o tabuleiro (o mesmo texto de displayBoard) sem criar strings,
+     * para desenhar em um buffer reaproveitado ou direto em um Writer
+     * @param out destino do texto
+     * @throws IOException se a escrita no destino falhar
+     */
+    public void renderBoard(Appendable out) throws IOException {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int labelWidth = digits(rows - 1);
         
-        for (int row = 0; row < 3; row++) {
-            sb.append(row).append(" ");
-            for (int col = 0; col < 3; col++) {
-                char symbol;
-                switch (board[row][col]) {
-                    case X: symbol = 'X'; break;
-                    case O: symbol = 'O'; break;
-                    default: symbol = ' '; break;
-                }
-                sb.append(symbol);
-                if (col < 2) sb.append(" | ");
-            }
-            sb.append("\n");
-            if (row < 2) sb.append("  ---------\n");
+        out.append('\n');
+        appendPadding(out, labelWidth + 1);
+        for (int col = 0; col < cols; col++) {
+            appendNumber(out, col);
+            if (col < cols - 1) appendPadding(out, 4 - digits(col));
         }
+        out.append('\n');
         
-        return sb.toString();
+        for (int row = 0; row < rows; row++) {
+            appendPadding(out, labelWidth - digits(row));
+            appendNumber(out, row);
+            out.append(' ');
+            for (int col = 0; col < cols; col++) {
+                out.append(symbolAt(row * cols + col));
+                if (col < cols - 1) out.append(" | ");
+            }
+            out.append('\n');
+            if (row < rows - 1) {
+                appendPadding(out, labelWidth + 1);
+                for (int i = 0; i < cols * 4 - 3; i++) out.append('-');
+                out.append('\n');
+            }
+        }
     }
-/**
+    
+    /**
+     * Símbolo desenhado em uma célula
+     * @param cell índice da célula (row * cols + col)
+     * @return 'X', 'O' ou espaço
+     */
+    char symbolAt(int cell) {
+        switch (board.get(cell)) {
+            case MnkBoard.X: return 'X';
+            case MnkBoard.O: return 'O';
+            default: return ' ';
+        }
+    }
+    
+    /**
+     * Número de dígitos de um número não negativo
+     */
+    static int digits(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+    
+    static void appendNumber(Appendable out, int value) throws IOException {
+        if (value >= 10) appendNumber(out, value / 10);
+        out.append((char) ('0' + value % 10));
+    }
+    
+    private static void appendPadding(Appendable out, int count) throws IOException {
+        for (int i = 0; i < count; i++) out.append(' ');
+    }
+    
+    /**
      * Obtém o valor de uma célula específica do tabuleiro.
      * @param row A linha da célula.
      * @param col A coluna da célula.
      * @return O valor da célula (X, O ou EMPTY).
      */
     public Cell getCell(int row, int col) {
-        return board[row][col];
+        if (row < 0 || row >= board.getRows() || col < 0 || col >= board.getCols()) {
+            throw new ArrayIndexOutOfBoundsException("Célula fora do tabuleiro: " + row + "," + col);
+        }
+        switch (board.get(row * board.getCols() + col)) {
+            case MnkBoard.X: return Cell.X;
+            case MnkBoard.O: return Cell.O;
+            default: return Cell.EMPTY;
+        }
+    }
+    
+    /**
+     * Obtém o tabuleiro interno, para consulta pelas estratégias do computador.
+     * Não deve ser alterado; estratégias que precisam jogar devem usar uma cópia.
+     * @return tabuleiro do jogo
+     */
+    public MnkBoard getBoard() {
+        return board;
+    }
+    
+    /**
+     * Células ocupadas por X no tabuleiro clássico 3x3 (bit = row * 3 + col)
+     * @return máscara de 9 bits
+     */
+    public int getXBits() {
+        return (int) board.getWord(MnkBoard.X, 0);
+    }
+    
+    /**
+     * Células ocupadas por O no tabuleiro clássico 3x3 (bit = row * 3 + col)
+     * @return máscara de 9 bits
+     */
+    public int getOBits() {
+        return (int) board.getWord(MnkBoard.O, 0);
+    }
+    
+    /**
+     * Verifica se o jogo usa o tabuleiro clássico 3x3 com 3 em linha
+     * @return true para o tabuleiro clássico
+     */
+    public boolean isClassicBoard() {
+        return board.getRows() == 3 && board.getCols() == 3 && board.getWinLength() == 3;
     }
-
-
-
     
     // Getters
     public Cell getCurrentPlayer() { return currentPlayer; }
@@ -324,54 +566,24 @@ public class TicTacToe {
     public boolean isGameOver() { return gameWon || gameTied; }
     public boolean isComputerMode() { return computerMode; }
     public Cell getHumanPlayer() { return humanPlayer; }
+    public ComputerStrategy getComputerStrategy() { return strategy; }
+    public int getRows() { return board.getRows(); }
+    public int getCols() { return board.getCols(); }
+    public int getWinLength() { return board.getWinLength(); }
     
     /**
      * Obtém o símbolo do vencedor
      * @return o símbolo do vencedor ou EMPTY se não há vencedor
      */
     public Cell getWinner() {
-        if (!gameWon) return Cell.EMPTY;
-        
-        // Verifica todas as condições de vitória para determinar quem ganhou
-        // Verifica linhas
-        for (int row = 0; row < 3; row++) {
-            if (board[row][0] != Cell.EMPTY && 
-                board[row][0] == board[row][1] && 
-                board[row][1] == board[row][2]) {
-                return board[row][0];
-            }
-        }
-        
-        // Verifica colunas
-        for (int col = 0; col < 3; col++) {
-            if (board[0][col] != Cell.EMPTY && 
-                board[0][col] == board[1][col] && 
-                board[1][col] == board[2][col]) {
-                return board[0][col];
-            }
-        }
-        
-        // Verifica diagonal principal
-        if (board[0][0] != Cell.EMPTY && 
-            board[0][0] == board[1][1] && 
-            board[1][1] == board[2][2]) {
-            return board[0][0];
-        }
-        
-        // Verifica diagonal secundária
-        if (board[0][2] != Cell.EMPTY && 
-            board[0][2] == board[1][1] && 
-            board[1][1] == board[2][0]) {
-            return board[0][2];
-        }
-        
-        return Cell.EMPTY; // Não deveria chegar aqui se gameWon for true
+        return winner;
     }
     
     /**
      * Reinicia o jogo
      */
     public void resetGame() {
+        if (GameMetrics.ENABLED) GameMetrics.get().recordGameStarted();
         initializeBoard();
         currentPlayer = Cell.X;
         gameWon = false;
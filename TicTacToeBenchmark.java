@@ -0,0 +1,235 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe TicTacToeBenchmark - Medição de desempenho dos caminhos principais do jogo
+ * Cada medição tem aquecimento, várias iterações cronometradas e um perfil
+ * de alocação (bytes alocados por operação na thread que mede)
+ *
+ * Uso: java TicTacToeBenchmark [filtro]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class TicTacToeBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 200_000_000L; // 200 ms por iteração
+
+    // Resultados somados aqui para que o JIT não elimine o trabalho medido
+    private static volatile long sink;
+
+    /**
+     * Uma operação medida
+     */
+    interface Benchmark {
+        /**
+         * Executa a operação várias vezes
+         * @param ops número de operações
+         * @return valor qualquer derivado do trabalho feito
+         */
+        long run(int ops);
+    }
+
+    private static final List<String> names = new ArrayList<>();
+    private static final List<Benchmark> benchmarks = new ArrayList<>();
+
+    private static void register(String name, Benchmark benchmark) {
+        names.add(name);
+        benchmarks.add(benchmark);
+    }
+
+    public static void main(String[] args) {
+        String filter = (args.length > 0) ? args[0] : "";
+        registerAll();
+
+        System.out.println("=== BENCHMARKS DO JOGO DA VELHA ===");
+        System.out.printf("%-40s %12s %12s %12s%n", "Benchmark", "ns/op", "± ns/op", "B/op");
+        for (int i = 0; i < benchmarks.size(); i++) {
+            if (names.get(i).contains(filter)) {
+                measure(names.get(i), benchmarks.get(i));
+            }
+        }
+    }
+
+    /**
+     * Cadastra as medições
+     */
+    private static void registerAll() {
+        // Jogadas humanas: uma partida empatada de 9 jogadas, reiniciada ao fim
+        int[] tieGame = {0, 1, 2, 3, 5, 4, 6, 8, 7};
+        TicTacToe twoPlayers = new TicTacToe();
+        register("makeMove (3x3)", ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                int move = tieGame[i % 9];
+                if (move == 0) twoPlayers.resetGame();
+                sum += twoPlayers.makeMove(move / 3, move % 3) ? 1 : 0;
+            }
+            return sum;
+        });
+
+        // Verificação de vitória nas máscaras e vencedor de um jogo ganho
+        register("checkForWin (máscaras 3x3)", ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                sum += TicTacToe.checkForWin(i & 0x1FF) ? 1 : 0;
+            }
+            return sum;
+        });
+        TicTacToe[] finishedGames = {new TicTacToe(), new TicTacToe()};
+        int[] xWins = {0, 3, 1, 4, 2};
+        for (int move : xWins) finishedGames[0].makeMove(move / 3, move % 3);
+        for (int move : tieGame) finishedGames[1].makeMove(move / 3, move % 3);
+        register("getWinner (jogo terminado)", ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                TicTacToe finished = finishedGames[i & 1];
+                sum += finished.getWinner().ordinal() + (finished.isGameOver() ? 1 : 0);
+            }
+            return sum;
+        });
+
+        // Jogada humana seguida da resposta do computador
+        registerComputerMove("makeMove + computador (tabela)", new SolvedTable());
+        registerComputerMove("makeMove + computador (negamax)", new NegamaxEngine());
+        registerComputerMove("makeMove + computador (heurística)", new HeuristicStrategy());
+
+        // Desenho do tabuleiro
+        TicTacToe displayed = new TicTacToe();
+        displayed.makeMove(1, 1);
+        displayed.makeMove(0, 0);
+        register("displayBoard (3x3)", ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                sum += displayed.displayBoard().length();
+            }
+            return sum;
+        });
+        TicTacToe large = new TicTacToe(15, 15, 5);
+        large.makeMove(7, 7);
+        StringBuilder frame = new StringBuilder();
+        register("renderBoard (15x15, buffer reaproveitado)", ops -> {
+            long sum = 0;
+            try {
+                for (int i = 0; i < ops; i++) {
+                    frame.setLength(0);
+                    large.renderBoard(frame);
+                    sum += frame.length();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return sum;
+        });
+        AnsiBoardRenderer renderer = new AnsiBoardRenderer(15, 15);
+        register("AnsiBoardRenderer (15x15, jogar + desfazer)", ops -> {
+            long sum = 0;
+            try {
+                for (int i = 0; i < ops; i++) {
+                    if ((i & 1) == 0) large.play(0); else large.unplay();
+                    frame.setLength(0);
+                    renderer.render(large, frame);
+                    sum += frame.length();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return sum;
+        });
+
+        // Partidas aleatórias completas em um único tabuleiro
+        registerPlayout("partida aleatória (3x3)", 3, 3, 3);
+        registerPlayout("partida aleatória (15x15, 5 em linha)", 15, 15, 5);
+    }
+
+    private static void registerComputerMove(String name, ComputerStrategy strategy) {
+        TicTacToe game = new TicTacToe(true, strategy);
+        register(name, ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                if (game.isGameOver()) game.resetGame();
+                // O humano joga na primeira célula vazia
+                int cell = 0;
+                while (game.getCell(cell / 3, cell % 3) != TicTacToe.Cell.EMPTY) cell++;
+                sum += game.makeMove(cell / 3, cell % 3) ? 1 : 0;
+            }
+            return sum;
+        });
+    }
+
+    private static void registerPlayout(String name, int rows, int cols, int winLength) {
+        TicTacToe game = new TicTacToe(rows, cols, winLength);
+        RandomStrategy random = new RandomStrategy(42);
+        register(name, ops -> {
+            long sum = 0;
+            for (int i = 0; i < ops; i++) {
+                game.resetGame();
+                while (!game.isGameOver()) {
+                    game.play(random.chooseMove(game));
+                }
+                sum += game.getWinner().ordinal();
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * Aquece, mede e imprime uma linha de resultado
+     */
+    private static void measure(String name, Benchmark benchmark) {
+        // Calibra o número de operações para cerca de ITERATION_NANOS por iteração
+        int ops = 1;
+        long elapsed;
+        do {
+            ops *= 2;
+            long start = System.nanoTime();
+            sink += benchmark.run(ops);
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_NANOS / 10 && ops < (1 << 28));
+        ops = (int) Math.max(1, Math.min(Integer.MAX_VALUE, ops * ((double) ITERATION_NANOS / Math.max(1, elapsed))));
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += benchmark.run(ops);
+        }
+
+        double[] nanosPerOp = new double[MEASURE_ITERATIONS];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += benchmark.run(ops);
+            nanosPerOp[i] = (double) (System.nanoTime() - start) / ops;
+        }
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        double mean = 0;
+        for (double value : nanosPerOp) mean += value;
+        mean /= MEASURE_ITERATIONS;
+        double variance = 0;
+        for (double value : nanosPerOp) variance += (value - mean) * (value - mean);
+        double error = Math.sqrt(variance / (MEASURE_ITERATIONS - 1));
+
+        String bytesPerOp = (allocatedBefore < 0) ? "n/d"
+                : String.format("%.1f", (double) allocated / ((long) ops * MEASURE_ITERATIONS));
+        System.out.printf("%-40s %12.1f %12.1f %12s%n", name, mean, error, bytesPerOp);
+    }
+
+    /**
+     * Bytes alocados pela thread atual até agora
+     * @return bytes alocados, ou -1 se a JVM não informa
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,118 @@
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * Classe TicTacToeClient - Cliente de referência do servidor do jogo
+ * Envia um comando por linha e lê as respostas (ver TicTacToeServer)
+ *
+ * Uso: java TicTacToeClient [host] [porta] [novo|partida]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class TicTacToeClient implements Closeable {
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final OutputStream output;
+
+    /**
+     * Conecta ao servidor
+     * @param host endereço do servidor
+     * @param port porta do servidor
+     * @throws IOException se a conexão falhar
+     */
+    public TicTacToeClient(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        output = socket.getOutputStream();
+    }
+
+    /**
+     * Envia um comando e espera a próxima linha do servidor
+     * @param command comando do protocolo, sem quebra de linha
+     * @return resposta do servidor
+     * @throws IOException se a conexão falhar
+     */
+    public String send(String command) throws IOException {
+        output.write((command + "\n").getBytes(StandardCharsets.US_ASCII));
+        output.flush();
+        return readLine();
+    }
+
+    /**
+     * Lê a próxima linha do servidor (por exemplo, a jogada do adversário)
+     * @return linha recebida
+     * @throws IOException se a conexão for encerrada
+     */
+    public String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            throw new IOException("Conexão encerrada pelo servidor");
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    /**
+     * Desenha o tabuleiro de uma resposta JOGO ou TABULEIRO
+     */
+    private static void printBoard(String board) {
+        for (int i = 0; i < 3; i++) {
+            System.out.println(" " + board.charAt(i * 3) + " | " + board.charAt(i * 3 + 1) + " | " + board.charAt(i * 3 + 2));
+            if (i < 2) System.out.println("-----------");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = (args.length > 0) ? args[0] : "localhost";
+        int port = (args.length > 1) ? Integer.parseInt(args[1]) : TicTacToeServer.DEFAULT_PORT;
+        String mode = (args.length > 2) ? args[2].toUpperCase() : "NOVO";
+
+        try (TicTacToeClient client = new TicTacToeClient(host, port)) {
+            Scanner scanner = new Scanner(System.in);
+            String reply = client.send(mode);
+            if (reply.equals("AGUARDANDO")) {
+                System.out.println("Aguardando adversário...");
+                reply = client.readLine();
+            }
+            String[] parts = reply.split(" ");
+            String symbol = parts[1];
+            System.out.println("Você joga com " + symbol);
+
+            while (true) {
+                parts = reply.split(" ");
+                String board = parts[parts.length - 2];
+                String status = parts[parts.length - 1];
+                printBoard(board);
+                if (!status.startsWith("VEZ_")) {
+                    System.out.println("Fim de jogo: " + status);
+                    break;
+                }
+                if (!status.equals("VEZ_" + symbol)) {
+                    System.out.println("Vez do adversário...");
+                    reply = client.readLine();
+                    continue;
+                }
+                System.out.print("Sua jogada (linha coluna): ");
+                reply = client.send("JOGAR " + scanner.nextLine().trim());
+                while (reply.startsWith("ERRO")) {
+                    System.out.println(reply.substring(5));
+                    System.out.print("Sua jogada (linha coluna): ");
+                    reply = client.send("JOGAR " + scanner.nextLine().trim());
+                }
+            }
+        }
+    }
+}
@@ -22,11 +22,8 @@ public class TicTacToeDemo {
      */
     private static void demonstrateComputerStrategy() {
         System.out.println("🤖 ESTRATÉGIA DO COMPUTADOR:");
-        System.out.println("1. Tenta ganhar");
-        System.out.println("2. Bloqueia o oponente");
-        System.out.println("3. Prioriza centro");
-        System.out.println("4. Escolhe cantos");
-        System.out.println("5. Usa bordas como última opção\n");
+        System.out.println("Consulta a tabela com as " + SolvedTable.positionCount() + " posições resolvidas");
+        System.out.println("(jogo perfeito: o computador nunca perde)\n");
         
         // Demonstração: Computador tenta ganhar
         System.out.println("Cenário 1: Computador tentando ganhar");
@@ -43,6 +40,7 @@ public class TicTacToeDemo {
         System.out.println("Estado final:");
         System.out.println(game1.displayBoard());
         System.out.println("Computador ganhou: " + (game1.isGameWon() && game1.getWinner() == TicTacToe.Cell.O));
+        System.out.println("Última busca: " + game1.getComputerStrategy().getLastStats());
         System.out.println();
         
         // Demonstração: Computador bloqueando
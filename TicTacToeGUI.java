@@ -1,10 +1,27 @@
 import java.awt.*;
 import java.awt.event.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 import javax.swing.*;
 
 public class TicTacToeGUI extends JFrame {
+    // Tempo máximo para o computador pensar (-Djogodavelha.tempoComputador=ms)
+    private static final int DEFAULT_THINKING_BUDGET_MILLIS = 2000;
+
     private TicTacToe game;
-    private JButton[][] buttons = new JButton[3][3];
+    private Qubic qubic; // Partida 4x4x4 (null nos modos 2D)
+    private int thinkingBudgetMillis = Integer.getInteger("jogodavelha.tempoComputador",
+            DEFAULT_THINKING_BUDGET_MILLIS);
+    private SwingWorker<Integer, Void> computerWorker; // Busca do computador em andamento
+    private Timer budgetTimer; // Encerra a busca quando o tempo acaba
+    private int computerMoveId; // Identifica a busca atual; buscas antigas são ignoradas
+    private long thinkingStart; // Início da busca atual (System.nanoTime)
+    private BoardView boardView; // 3x3
+    private BoardView gomokuView; // 15x15, 5 em linha
+    private BoardView qubicView; // 4 camadas 4x4
+    private BoardView currentView;
     private JLabel statusLabel;
     private boolean vsComputer = false;
 
@@ -14,20 +31,14 @@ public class TicTacToeGUI extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
 
-        JPanel boardPanel = new JPanel();
-        boardPanel.setLayout(new GridLayout(3, 3));
-
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                buttons[i][j] = new JButton("");
-                buttons[i][j].setFont(new Font("Arial", Font.PLAIN, 60));
-                buttons[i][j].setFocusPainted(false);
-                final int row = i;
-                final int col = j;
-                buttons[i][j].addActionListener(e -> handleMove(row, col));
-                boardPanel.add(buttons[i][j]);
-            }
-        }
+        // Tabuleiros desenhados; cada clique chega como índice de célula
+        boardView = new BoardView(3, 3);
+        boardView.setClickHandler(this::handleMove);
+        gomokuView = new BoardView(15, 15);
+        gomokuView.setClickHandler(this::handleMove);
+        // Tabuleiro 4x4x4: quatro camadas 4x4 em uma grade 2x2
+        qubicView = new BoardView(4, 4, 4);
+        qubicView.setClickHandler(this::handleQubicMove);
 
         statusLabel = new JLabel("Escolha o modo de jogo", SwingConstants.CENTER);
         statusLabel.setFont(new Font("Arial", Font.BOLD, 16));
@@ -35,11 +46,19 @@ public class TicTacToeGUI extends JFrame {
         JButton resetButton = new JButton("Reiniciar Jogo");
         resetButton.addActionListener(e -> showModeSelection());
 
+        JButton undoButton = new JButton("Desfazer");
+        undoButton.addActionListener(e -> undoMove());
+
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 2));
+        buttonPanel.add(undoButton);
+        buttonPanel.add(resetButton);
+
         JPanel bottomPanel = new JPanel(new BorderLayout());
         bottomPanel.add(statusLabel, BorderLayout.CENTER);
-        bottomPanel.add(resetButton, BorderLayout.SOUTH);
+        bottomPanel.add(buttonPanel, BorderLayout.SOUTH);
 
-        add(boardPanel, BorderLayout.CENTER);
+        add(boardView, BorderLayout.CENTER);
+        currentView = boardView;
         add(bottomPanel, BorderLayout.SOUTH);
         
         setLocationRelativeTo(null); // Centraliza a janela
@@ -51,59 +70,207 @@ public class TicTacToeGUI extends JFrame {
     }
 
     private void showModeSelection() {
-        String[] options = {"Jogador vs Jogador", "Jogador vs Computador"};
+        cancelComputerMove();
+        String[] options = {"Jogador vs Jogador", "Jogador vs Computador", "3D 4x4x4 vs Computador",
+                "Gomoku 15x15 vs Computador"};
         int choice = JOptionPane.showOptionDialog(this, "Escolha o modo de jogo:", "Jogo da Velha",
                 JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
 
-        vsComputer = (choice == 1);
-        resetGame();
+        vsComputer = (choice >= 1);
+        BoardView view = (choice == 2) ? qubicView : (choice == 3) ? gomokuView : boardView;
+        showBoard(view);
+        resetGame(view);
+    }
+
+    /**
+     * Troca o tabuleiro exibido (3x3, 15x15 ou 4x4x4)
+     */
+    private void showBoard(BoardView view) {
+        if (currentView != view) {
+            BorderLayout layout = (BorderLayout) getContentPane().getLayout();
+            Component current = layout.getLayoutComponent(BorderLayout.CENTER);
+            if (current != null) {
+                remove(current);
+            }
+            add(view, BorderLayout.CENTER);
+            setSize(view == boardView ? new Dimension(400, 450) : new Dimension(640, 720));
+            revalidate();
+            repaint();
+        }
+        currentView = view;
+    }
+
+    /**
+     * Define o tempo máximo para o computador pensar em cada jogada
+     * @param millis tempo em milissegundos
+     */
+    public void setThinkingBudget(int millis) {
+        thinkingBudgetMillis = millis;
+    }
+
+    /**
+     * Calcula a jogada do computador fora da thread de eventos. O tabuleiro só
+     * é alterado quando o resultado fica pronto; se o tempo acabar antes, a
+     * busca é cancelada e usa-se a jogada rápida de reserva. O cancelamento
+     * interrompe a thread, e as buscas (AlphaBetaSearch, ThreatSpaceSearch)
+     * consultam a interrupção junto com o relógio e param em seguida.
+     * @param think busca executada em segundo plano (sobre uma cópia do jogo)
+     * @param fallback jogada rápida, calculada na thread de eventos
+     * @param apply aplica a jogada escolhida, na thread de eventos
+     */
+    private void startComputerMove(Callable<Integer> think, IntSupplier fallback, IntConsumer apply) {
+        final int moveId = ++computerMoveId;
+        thinkingStart = System.nanoTime();
+        statusLabel.setText("Computador pensando...");
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        computerWorker = new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() throws Exception {
+                return think.call();
+            }
+
+            @Override
+            protected void done() {
+                if (moveId != computerMoveId || isCancelled()) {
+                    return; // Reinício ou tempo esgotado: resultado descartado
+                }
+                finishComputerMove();
+                try {
+                    apply.accept(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    apply.accept(fallback.getAsInt());
+                }
+            }
+        };
+
+        budgetTimer = new Timer(thinkingBudgetMillis, e -> {
+            if (moveId == computerMoveId && computerWorker != null) {
+                computerWorker.cancel(true);
+                finishComputerMove();
+                apply.accept(fallback.getAsInt());
+            }
+        });
+        budgetTimer.setRepeats(false);
+        budgetTimer.start();
+        computerWorker.execute();
+    }
+
+    private void finishComputerMove() {
+        budgetTimer.stop();
+        computerWorker = null;
+        setCursor(Cursor.getDefaultCursor());
+    }
+
+    /**
+     * Cancela a busca do computador em andamento, se houver
+     */
+    private void cancelComputerMove() {
+        computerMoveId++;
+        if (computerWorker != null) {
+            computerWorker.cancel(true);
+            finishComputerMove();
+        }
+    }
+
+    private boolean isComputerThinking() {
+        return computerWorker != null;
+    }
+
+    private String thinkingTime() {
+        return " (computador: " + (System.nanoTime() - thinkingStart) / 1000000 + " ms)";
     }
 
-    private void handleMove(int row, int col) {
-        if (game == null || !buttons[row][col].getText().equals("") || game.isGameOver()) {
+    private void handleQubicMove(int cell) {
+        if (qubic == null || isComputerThinking() || qubic.isGameOver()) {
             return;
         }
 
-        if (game.makeMove(row, col)) {
-            updateBoard();
+        if (qubic.makeMove(cell / 16, (cell / 4) % 4, cell % 4)) {
+            if (qubic.isGameOver()) {
+                displayQubicWinner();
+            } else {
+                QubicBoard snapshot = qubic.copyBoard();
+                startComputerMove(
+                        // O prazo da busca fica abaixo do limite da GUI, que só dispara em atrasos
+                        () -> new IterativeDeepeningSearch(thinkingBudgetMillis * 3 / 4).chooseMove(snapshot),
+                        () -> new AlphaBetaSearch(1).chooseMove(qubic.copyBoard()),
+                        this::applyQubicComputerMove);
+            }
+        }
+    }
+
+    private void applyQubicComputerMove(int cell) {
+        qubic.makeMove(cell / 16, (cell / 4) % 4, cell % 4);
+        if (qubic.isGameOver()) {
+            displayQubicWinner();
+        } else {
+            statusLabel.setText("Vez do Jogador " + qubic.getCurrentPlayer() + thinkingTime());
+        }
+    }
+
+    private void displayQubicWinner() {
+        if (qubic.isGameWon()) {
+            statusLabel.setText("Jogador " + qubic.getWinner() + " venceu!");
+        } else {
+            statusLabel.setText("Deu velha! (Empate)");
+        }
+        qubicView.setEnabled(false);
+    }
+
+    private void handleMove(int cell) {
+        if (game == null || isComputerThinking() || game.isGameOver()) {
+            return;
+        }
+
+        if (game.makeMove(cell / game.getCols(), cell % game.getCols())) {
             if (game.isGameOver()) {
                 displayWinner();
             } else if (vsComputer) {
-                // A lógica em makeMove já chama o computador e troca o jogador
-                updateBoard(); // Atualiza o tabuleiro após a jogada do computador
-                if (game.isGameOver()) {
-                    displayWinner();
-                }
+                // O computador pensa sobre uma cópia, fora da thread de eventos
+                TicTacToe snapshot = new TicTacToe(game);
+                ComputerStrategy strategy = game.isClassicBoard() ? new SolvedTable()
+                        : new IterativeDeepeningSearch(thinkingBudgetMillis * 3 / 4);
+                startComputerMove(
+                        () -> strategy.chooseMove(snapshot),
+                        () -> new HeuristicStrategy().chooseMove(game),
+                        this::applyComputerMove);
+                return;
             }
             updateStatus();
         }
     }
 
-    private void updateBoard() {
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                TicTacToe.Cell cell = game.getCell(i, j);
-                if (cell != TicTacToe.Cell.EMPTY) {
-                    buttons[i][j].setText(cell.toString());
-                } else {
-                    buttons[i][j].setText("");
-                }
-            }
+    private void applyComputerMove(int cell) {
+        game.makeMove(cell / game.getCols(), cell % game.getCols());
+        if (game.isGameOver()) {
+            displayWinner();
+        } else {
+            statusLabel.setText("Vez do Jogador " + game.getCurrentPlayer() + thinkingTime());
         }
     }
 
+    private void undoMove() {
+        if (game == null || isComputerThinking() || !game.undoMove()) {
+            return;
+        }
+        // Contra o computador, desfaz também a jogada dele
+        if (vsComputer && game.getCurrentPlayer() != TicTacToe.Cell.X) {
+            game.undoMove();
+        }
+        // O jogo volta a estar em andamento; as células desfeitas chegam pelo MoveListener
+        currentView.setEnabled(true);
+        updateStatus();
+    }
+
     private void displayWinner() {
         if (game.isGameWon()) {
             statusLabel.setText("Jogador " + game.getWinner() + " venceu!");
         } else if (game.isGameTied()) {
             statusLabel.setText("Deu velha! (Empate)");
         }
-        // Desabilita os botões
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                buttons[i][j].setEnabled(false);
-            }
-        }
+        // Ignora novos cliques no tabuleiro
+        currentView.setEnabled(false);
     }
     
     private void updateStatus() {
@@ -112,19 +279,20 @@ public class TicTacToeGUI extends JFrame {
         }
     }
 
-    private void resetGame() {
-        if (vsComputer) {
-            // O jogador humano será 'X' e começa primeiro
-            game = new TicTacToe(true); 
+    private void resetGame(BoardView view) {
+        // O jogador humano será 'X' e começa primeiro; contra o computador,
+        // as jogadas dele são feitas pela GUI, em segundo plano. O tabuleiro
+        // exibido acompanha o jogo pelos avisos de MoveListener.
+        view.boardCleared();
+        view.setEnabled(true);
+        if (view == qubicView) {
+            qubic = new Qubic();
+            qubic.addMoveListener(view);
+            game = null;
         } else {
-            game = new TicTacToe();
-        }
-        
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                buttons[i][j].setText("");
-                buttons[i][j].setEnabled(true);
-            }
+            qubic = null;
+            game = (view == gomokuView) ? new TicTacToe(15, 15, 5) : new TicTacToe();
+            game.addMoveListener(view);
         }
         statusLabel.setText("Jogador X começa");
     }
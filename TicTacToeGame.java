@@ -1,10 +1,26 @@
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 /**
  * Classe principal para executar o jogo da velha Fornece interface de linha de
  * comando para interação com o usuário
  *
+ * Modo em lote (sem interação): java TicTacToeGame --batch [arquivo|-] [estrategia] [threads]
+ * Lê uma posição por linha e escreve a análise de cada uma (ver BatchAnalyzer)
+ *
+ * Com --ansi, o tabuleiro 2D fica fixo no topo do terminal e só as células
+ * alteradas são redesenhadas a cada jogada (ver AnsiBoardRenderer)
+ *
  * @author Copilot
  * @version 1.0
  */
@@ -12,19 +28,54 @@ public class TicTacToeGame {
 
     private Scanner scanner;
     private TicTacToe game;
+    private Qubic qubic; // Partida 4x4x4 em andamento (null nos modos 2D)
+    private final boolean ansi; // Redesenho incremental do tabuleiro
+    private final StringBuilder frame = new StringBuilder(); // Reaproveitado a cada quadro
+    private AnsiBoardRenderer renderer;
 
     public TicTacToeGame() {
+        this(false);
+    }
+
+    /**
+     * Construtor
+     * @param ansi true para redesenhar só as células alteradas (terminal ANSI)
+     */
+    public TicTacToeGame(boolean ansi) {
         scanner = new Scanner(System.in);
+        this.ansi = ansi;
     }
 
     /**
      * Método principal para executar o jogo
      */
-    public static void main(String[] args) {
-        TicTacToeGame gameRunner = new TicTacToeGame();
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args);
+            return;
+        }
+        boolean ansi = args.length > 0 && args[0].equals("--ansi");
+        TicTacToeGame gameRunner = new TicTacToeGame(ansi);
         gameRunner.playGame();
     }
 
+    /**
+     * Modo em lote: analisa as posições da entrada padrão ou de um arquivo
+     */
+    private static void runBatch(String[] args) throws IOException {
+        String file = (args.length > 1) ? args[1] : "-";
+        String strategy = (args.length > 2) ? args[2] : "tabela";
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        BatchAnalyzer analyzer = new BatchAnalyzer(GameSimulator.strategyByName(strategy), threads);
+        try (BufferedReader input = file.equals("-")
+                    ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                    : Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8);
+             Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)) {
+            analyzer.analyze(input, output);
+        }
+    }
+
     /**
      * Loop principal do jogo
      */
@@ -36,7 +87,11 @@ public class TicTacToeGame {
 
         while (playAgain) {
             setupGame();
-            runGameLoop();
+            if (qubic != null) {
+                runQubicLoop();
+            } else {
+                runGameLoop();
+            }
             playAgain = askPlayAgain();
         }
 
@@ -51,10 +106,23 @@ public class TicTacToeGame {
         System.out.println("\nEscolha o modo de jogo:");
         System.out.println("1. Dois jogadores humanos");
         System.out.println("2. Jogador vs Computador");
+        System.out.println("3. Jogo 3D 4x4x4 (Qubic) vs Computador");
 
-        int choice = getValidChoice(1, 2);
+        int choice = getValidChoice(1, 3);
+        qubic = null;
 
-        if (choice == 1) {
+        if (choice == 3) {
+            // Modo 3D contra computador
+            System.out.println("\nVocê quer ser o primeiro jogador? (s/n)");
+            String response = scanner.nextLine().toLowerCase();
+            boolean humanFirst = response.startsWith("s");
+
+            qubic = new Qubic(humanFirst);
+
+            System.out.println("\nModo: Você vs Computador (4x4x4)");
+            System.out.println(humanFirst ? "Você: X (primeiro)" : "Computador: X (primeiro)");
+            System.out.println(humanFirst ? "Computador: O" : "Você: O");
+        } else if (choice == 1) {
             // Modo dois jogadores
             game = new TicTacToe();
             System.out.println("\nModo: Dois jogadores");
@@ -85,11 +153,14 @@ public class TicTacToeGame {
      */
     private void runGameLoop() {
         System.out.println("\nInstruções:");
-        System.out.println("- Digite a linha (0-2) e coluna (0-2) para fazer sua jogada");
-        System.out.println("- Exemplo: '1 1' para jogar no centro");
+        System.out.println("- Digite a linha (0-" + (game.getRows() - 1) + ") e coluna (0-"
+                + (game.getCols() - 1) + ") para fazer sua jogada");
+        System.out.println("- Exemplo: '" + game.getRows() / 2 + " " + game.getCols() / 2 + "' para jogar no centro");
+        System.out.println("- Digite 'u' para desfazer e 'r' para refazer a última jogada");
 
+        renderer = ansi ? new AnsiBoardRenderer(game.getRows(), game.getCols()) : null;
         while (!game.isGameOver()) {
-            System.out.println(game.displayBoard());
+            printBoard();
 
             if (game.isComputerMode() && game.getCurrentPlayer() != game.getHumanPlayer()) {
                 System.out.println("Computador está pensando...");
@@ -101,14 +172,79 @@ public class TicTacToeGame {
                 // A jogada do computador é feita automaticamente na classe TicTacToe
             } else {
                 makeHumanMove();
+                if (game.isComputerMode()) {
+                    System.out.println("Computador analisou " + game.getComputerStrategy().getLastStats());
+                }
             }
         }
 
         // Mostra resultado final
-        System.out.println(game.displayBoard());
+        printBoard();
         displayGameResult();
     }
 
+    /**
+     * Imprime o tabuleiro 2D usando o buffer reaproveitado
+     */
+    private void printBoard() {
+        frame.setLength(0);
+        try {
+            if (renderer != null) {
+                renderer.render(game, frame);
+            } else {
+                game.renderBoard(frame);
+                frame.append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder não lança IOException
+        }
+        System.out.print(frame);
+        System.out.flush();
+    }
+
+    /**
+     * Loop principal de uma partida 4x4x4
+     */
+    private void runQubicLoop() {
+        System.out.println("\nInstruções:");
+        System.out.println("- Digite a camada (0-3), a linha (0-3) e a coluna (0-3) para fazer sua jogada");
+        System.out.println("- Exemplo: '1 1 1' para jogar no cubo central");
+
+        while (!qubic.isGameOver()) {
+            System.out.println(qubic.displayBoard());
+            if (qubic.getLastStats().getNodes() > 0) {
+                System.out.println("Computador analisou " + qubic.getLastStats());
+            }
+
+            System.out.printf("Sua vez (%s): ", qubic.getCurrentPlayer());
+            String[] parts = scanner.nextLine().trim().split("\\s+");
+            if (parts.length != 3) {
+                System.out.println("Formato inválido! Digite camada, linha e coluna separadas por espaço (ex: 1 1 1)");
+                continue;
+            }
+            try {
+                if (!qubic.makeMove(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]))) {
+                    System.out.println("Jogada inválida! Os números devem estar entre 0 e 3 e a posição vazia.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Por favor, digite apenas números!");
+            }
+        }
+
+        // Mostra resultado final
+        System.out.println(qubic.displayBoard());
+        if (qubic.isGameWon()) {
+            if (qubic.getWinner() == qubic.getHumanPlayer()) {
+                System.out.println("🎉 Parabéns! Você ganhou!");
+            } else {
+                System.out.println("😅 O computador ganhou! Tente novamente.");
+            }
+        } else {
+            System.out.println("🤝 Empate! Bom jogo para ambos!");
+        }
+    }
+
     /**
      * Processa a jogada de um jogador humano
      */
@@ -124,6 +260,16 @@ public class TicTacToeGame {
 
             String input = scanner.nextLine().trim();
 
+            // Desfazer e refazer voltam ao loop para mostrar o tabuleiro
+            if (input.equalsIgnoreCase("u")) {
+                System.out.println(game.undoMove() ? "Jogada desfeita." : "Não há jogada para desfazer.");
+                return;
+            }
+            if (input.equalsIgnoreCase("r")) {
+                System.out.println(game.redoMove() ? "Jogada refeita." : "Não há jogada para refazer.");
+                return;
+            }
+
             // Verifica se o input tem o formato correto
             String[] parts = input.split("\\s+");
             if (parts.length != 2) {
@@ -140,7 +286,8 @@ public class TicTacToeGame {
                 if (!validMove) {
                     System.out.println("Jogada inválida! Tente novamente.");
                     System.out.println("Certifique-se de que:");
-                    System.out.println("- Os números estão entre 0 e 2");
+                    System.out.println("- A linha está entre 0 e " + (game.getRows() - 1)
+                            + " e a coluna entre 0 e " + (game.getCols() - 1));
                     System.out.println("- A posição está vazia");
                 }
             } catch (NumberFormatException e) {
@@ -0,0 +1,382 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Classe TicTacToeServer - Servidor TCP do jogo (modo online)
+ * Um único seletor NIO atende todas as conexões; como todas as partidas são
+ * tratadas na mesma thread, nenhuma delas precisa de sincronização.
+ *
+ * Protocolo em linhas de texto (ASCII, terminadas em \n):
+ *   cliente: NOVO                  partida contra o computador (cliente é X)
+ *            PARTIDA               partida contra outro cliente (o primeiro é X)
+ *            JOGAR linha coluna    jogada na partida atual
+ *            SAIR                  encerra a conexão
+ *   servidor: AGUARDANDO                       esperando adversário
+ *             JOGO simbolo tabuleiro estado    início de partida
+ *             TABULEIRO tabuleiro estado       após cada jogada (aos dois jogadores)
+ *             ERRO motivo                      texto sem acentos
+ * O tabuleiro vem de TicTacToe.toBoardString (X, O ou . por célula); o estado é
+ * VEZ_X, VEZ_O, VITORIA_X, VITORIA_O, EMPATE ou ABANDONO.
+ *
+ * Uso: java TicTacToeServer [porta]
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public class TicTacToeServer {
+
+    public static final int DEFAULT_PORT = 5000;
+    private static final int MAX_LINE = 256; // Maior linha aceita do cliente
+    private static final int OUTPUT_BUFFER = 4096; // Respostas pendentes por conexão
+
+    private final int requestedPort;
+    private final ComputerStrategy computer = new SolvedTable(); // Compartilhada: tudo roda na mesma thread
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private volatile boolean running;
+    private Connection waiting; // Cliente esperando adversário
+    private volatile int activeMatches;
+
+    /**
+     * Partida entre um cliente e o computador ou entre dois clientes
+     */
+    private static final class Match {
+        final TicTacToe game;
+        final Connection x;
+        Connection o; // null contra o computador
+
+        Match(TicTacToe game, Connection x, Connection o) {
+            this.game = game;
+            this.x = x;
+            this.o = o;
+        }
+    }
+
+    /**
+     * Estado de uma conexão
+     */
+    private static final class Connection {
+        final SocketChannel channel;
+        final SelectionKey key;
+        final ByteBuffer input = ByteBuffer.allocate(MAX_LINE);
+        final ByteBuffer output = ByteBuffer.allocate(OUTPUT_BUFFER);
+        Match match;
+        TicTacToe.Cell symbol;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Construtor
+     * @param port porta TCP (0 escolhe uma porta livre)
+     */
+    public TicTacToeServer(int port) {
+        this.requestedPort = port;
+    }
+
+    /**
+     * Abre a porta e inicia a thread do seletor
+     * @throws IOException se a porta não puder ser aberta
+     */
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(requestedPort), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        thread = new Thread(this::run, "TicTacToeServer");
+        thread.start();
+    }
+
+    /**
+     * Encerra o servidor e todas as conexões
+     */
+    public void stop() {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isWritable()) {
+                                flush(connection);
+                            }
+                            if (key.isValid() && key.isReadable()) {
+                                read(connection);
+                            }
+                        } catch (IOException e) {
+                            close(connection);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Erro no servidor: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            try {
+                selector.close();
+                serverChannel.close();
+            } catch (IOException e) {
+                // Já encerrando
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        }
+    }
+
+    /**
+     * Lê o que chegou e trata cada linha completa
+     */
+    private void read(Connection connection) throws IOException {
+        if (connection.channel.read(connection.input) < 0) {
+            close(connection);
+            return;
+        }
+        ByteBuffer input = connection.input;
+        input.flip();
+        int lineStart = 0;
+        for (int i = 0; i < input.limit(); i++) {
+            if (input.get(i) == '\n') {
+                String line = new String(input.array(), lineStart, i - lineStart, StandardCharsets.US_ASCII).trim();
+                lineStart = i + 1;
+                handle(connection, line);
+                if (!connection.key.isValid()) {
+                    return;
+                }
+            }
+        }
+        input.position(lineStart);
+        input.compact();
+        if (!input.hasRemaining()) {
+            send(connection, "ERRO linha muito longa");
+            close(connection);
+        }
+    }
+
+    /**
+     * Trata um comando do cliente
+     */
+    private void handle(Connection connection, String line) {
+        String[] parts = line.split("\\s+");
+        switch (parts[0].toUpperCase()) {
+            case "NOVO":
+                leaveMatch(connection);
+                startMatch(connection, null);
+                break;
+            case "PARTIDA":
+                leaveMatch(connection);
+                if (waiting == null || waiting == connection) {
+                    waiting = connection;
+                    send(connection, "AGUARDANDO");
+                } else {
+                    Connection first = waiting;
+                    waiting = null;
+                    startMatch(first, connection);
+                }
+                break;
+            case "JOGAR":
+                play(connection, parts);
+                break;
+            case "SAIR":
+                close(connection);
+                break;
+            default:
+                send(connection, "ERRO comando desconhecido");
+        }
+    }
+
+    private void startMatch(Connection x, Connection o) {
+        TicTacToe game = (o == null) ? new TicTacToe(true, computer) : new TicTacToe();
+        Match match = new Match(game, x, o);
+        activeMatches++;
+        x.match = match;
+        x.symbol = TicTacToe.Cell.X;
+        send(x, "JOGO X " + game.toBoardString() + " " + status(game));
+        if (o != null) {
+            o.match = match;
+            o.symbol = TicTacToe.Cell.O;
+            send(o, "JOGO O " + game.toBoardString() + " " + status(game));
+        }
+    }
+
+    private void play(Connection connection, String[] parts) {
+        Match match = connection.match;
+        if (match == null) {
+            send(connection, "ERRO sem partida");
+            return;
+        }
+        if (match.game.isGameOver() || match.game.getCurrentPlayer() != connection.symbol) {
+            send(connection, "ERRO nao e sua vez");
+            return;
+        }
+        int row;
+        int col;
+        try {
+            row = Integer.parseInt(parts[1]);
+            col = Integer.parseInt(parts[2]);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            send(connection, "ERRO use JOGAR linha coluna");
+            return;
+        }
+        if (!match.game.makeMove(row, col)) {
+            send(connection, "ERRO jogada invalida");
+            return;
+        }
+
+        // Se o envio a um jogador falhar, ele é fechado e o outro recebe ABANDONO no lugar
+        String reply = "TABULEIRO " + match.game.toBoardString() + " " + status(match.game);
+        send(match.x, reply);
+        if (match.o != null && match.o.match == match) {
+            send(match.o, reply);
+        }
+        if (match.game.isGameOver()) {
+            activeMatches--;
+        }
+    }
+
+    /**
+     * Tira a conexão da partida atual; o adversário humano é avisado
+     */
+    private void leaveMatch(Connection connection) {
+        if (waiting == connection) {
+            waiting = null;
+        }
+        Match match = connection.match;
+        if (match == null) {
+            return;
+        }
+        connection.match = null;
+        if (!match.game.isGameOver()) {
+            activeMatches--;
+            Connection opponent = (match.x == connection) ? match.o : match.x;
+            if (opponent != null && opponent.match == match) {
+                opponent.match = null;
+                send(opponent, "TABULEIRO " + match.game.toBoardString() + " ABANDONO");
+            }
+        }
+    }
+
+    /**
+     * Enfileira uma linha de resposta e tenta enviá-la imediatamente
+     */
+    private void send(Connection connection, String line) {
+        if (!connection.key.isValid()) {
+            return;
+        }
+        byte[] bytes = (line + "\n").getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > connection.output.remaining()) {
+            close(connection); // Cliente lento demais: não lê as respostas
+            return;
+        }
+        connection.output.put(bytes);
+        flush(connection);
+    }
+
+    /**
+     * Envia o que estiver pendente; o que não couber no socket espera OP_WRITE.
+     * Uma falha de escrita fecha só esta conexão, não a que provocou o envio.
+     */
+    private void flush(Connection connection) {
+        ByteBuffer output = connection.output;
+        output.flip();
+        try {
+            connection.channel.write(output);
+        } catch (IOException e) {
+            close(connection);
+            return;
+        }
+        output.compact();
+        if (output.position() > 0) {
+            connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } else {
+            connection.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void close(Connection connection) {
+        leaveMatch(connection);
+        closeQuietly(connection.key);
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Nada a fazer
+        }
+    }
+
+    /**
+     * Estado do jogo no protocolo
+     */
+    static String status(TicTacToe game) {
+        if (game.isGameWon()) return "VITORIA_" + game.getWinner();
+        if (game.isGameTied()) return "EMPATE";
+        return "VEZ_" + game.getCurrentPlayer();
+    }
+
+    /**
+     * Obtém a porta em uso (útil quando o servidor foi criado com a porta 0)
+     * @return porta TCP
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return partidas em andamento
+     */
+    public int getActiveMatches() {
+        return activeMatches;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        TicTacToeServer server = new TicTacToeServer(port);
+        server.start();
+        System.out.println("Servidor do Jogo da Velha na porta " + server.getPort());
+    }
+}
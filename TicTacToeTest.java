@@ -1,3 +1,10 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Classe de teste para demonstrar as funcionalidades do jogo da velha
  * 
@@ -13,6 +20,28 @@ public class TicTacToeTest {
         testWinConditions();
         testTieGame();
         testComputerMode();
+        testPerfectPlay();
+        testSolvedTable();
+        testSymmetry();
+        testLargeBoards();
+        testQubic();
+        testUndoRedo();
+        testSimulator();
+        testIterativeDeepening();
+        testMcts();
+        testServer();
+        testSessionRegistry();
+        testAtomicGame();
+        testGameRecords();
+        testPositionDatabase();
+        testMetrics();
+        testBatchAnalysis();
+        testRendering();
+        testBoardView();
+        testZobristHash();
+        testLazySmp();
+        testOffHeapTable();
+        testThreatSearch();
         
         System.out.println("Todos os testes foram executados!");
     }
@@ -126,4 +155,1313 @@ public class TicTacToeTest {
         System.out.println(game2.displayBoard());
         System.out.println();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Testa que a busca negamax nunca perde
+     */
+    private static void testPerfectPlay() {
+        System.out.println("5. Testando jogo perfeito do computador:");
+        
+        // Computador contra computador sempre termina empatado
+        NegamaxEngine engine = new NegamaxEngine();
+        TicTacToe game1 = new TicTacToe();
+        while (!game1.isGameOver()) {
+            int move = engine.chooseMove(game1);
+            game1.makeMove(move / 3, move % 3);
+        }
+        System.out.println(game1.displayBoard());
+        System.out.println("Negamax contra negamax empata: " + game1.isGameTied());
+        System.out.println("Última busca: " + engine.getLastStats());
+        
+        // O garfo que vence a heurística fixa não vence o negamax
+        TicTacToe game2 = new TicTacToe(true);
+        int[][] fork = {{0, 0}, {2, 2}, {0, 2}, {2, 0}, {1, 0}, {0, 1}, {1, 2}, {2, 1}};
+        for (int[] move : fork) {
+            game2.makeMove(move[0], move[1]);
+        }
+        System.out.println(game2.displayBoard());
+        System.out.println("Humano ganhou com garfo: " + (game2.getWinner() == TicTacToe.Cell.X));
+        System.out.println("Última busca do computador: " + game2.getComputerStrategy().getLastStats());
+        
+        // Todas as sequências de jogadas humanas, começando ou não
+        int losses = countHumanWins(new int[9], 0, true) + countHumanWins(new int[9], 0, false);
+        System.out.println("Partidas perdidas pelo computador (todas as sequências): " + losses);
+        System.out.println();
+    }
+    
+    /**
+     * Conta as sequências de jogadas humanas que vencem o computador
+     */
+    private static int countHumanWins(int[] moves, int count, boolean humanFirst) {
+        TicTacToe game = new TicTacToe(humanFirst);
+        for (int i = 0; i < count; i++) {
+            game.makeMove(moves[i] / 3, moves[i] % 3);
+        }
+        if (game.isGameOver()) {
+            return game.getWinner() == game.getHumanPlayer() ? 1 : 0;
+        }
+        
+        int wins = 0;
+        for (int cell = 0; cell < 9; cell++) {
+            if (game.getCell(cell / 3, cell % 3) == TicTacToe.Cell.EMPTY) {
+                moves[count] = cell;
+                wins += countHumanWins(moves, count + 1, humanFirst);
+            }
+        }
+        return wins;
+    }
+    
+    /**
+     * Testa que a tabela de posições resolvidas concorda com a busca completa
+     */
+    private static void testSolvedTable() {
+        System.out.println("6. Testando tabela de posições resolvidas:");
+        System.out.println("Posições legais na tabela: " + SolvedTable.positionCount());
+        
+        int[] mismatches = new int[1];
+        int checked = checkSolvedTable(new int[9], 0, new NegamaxEngine(), mismatches);
+        System.out.println("Sequências de jogadas comparadas com o negamax: " + checked);
+        System.out.println("Divergências: " + mismatches[0]);
+        System.out.println();
+    }
+    
+    /**
+     * Percorre todas as posições alcançáveis comparando valor e jogada da tabela
+     * com uma busca negamax completa
+     */
+    private static int checkSolvedTable(int[] moves, int count, NegamaxEngine engine, int[] mismatches) {
+        TicTacToe game = new TicTacToe();
+        for (int i = 0; i < count; i++) {
+            game.makeMove(moves[i] / 3, moves[i] % 3);
+        }
+        if (game.isGameOver()) {
+            return 0;
+        }
+        
+        int xBits = game.getXBits();
+        int oBits = game.getOBits();
+        engine.chooseMove(game);
+        int value = SolvedTable.value(xBits, oBits);
+        int move = SolvedTable.bestMove(xBits, oBits);
+        
+        // A jogada da tabela precisa alcançar o valor da busca
+        TicTacToe after = new TicTacToe();
+        for (int i = 0; i < count; i++) {
+            after.makeMove(moves[i] / 3, moves[i] % 3);
+        }
+        after.makeMove(move / 3, move % 3);
+        int moveValue = after.isGameWon() ? NegamaxEngine.WIN_SCORE - count - 1
+                : after.isGameTied() ? 0 : -SolvedTable.value(after.getXBits(), after.getOBits());
+        if (value != engine.getLastStats().getScore() || moveValue != value) {
+            mismatches[0]++;
+        }
+        
+        int checked = 1;
+        for (int cell = 0; cell < 9; cell++) {
+            if (game.getCell(cell / 3, cell % 3) == TicTacToe.Cell.EMPTY) {
+                moves[count] = cell;
+                checked += checkSolvedTable(moves, count + 1, engine, mismatches);
+            }
+        }
+        return checked;
+    }
+    
+    /**
+     * Testa a redução das posições pelas 8 simetrias do tabuleiro
+     */
+    private static void testSymmetry() {
+        System.out.println("7. Testando simetrias do tabuleiro:");
+        
+        java.util.Set<Integer> keys = new java.util.HashSet<>();
+        int roundTripErrors = 0;
+        for (int xBits = 0; xBits < 512; xBits++) {
+            for (int oBits = 0; oBits < 512; oBits++) {
+                if (!SolvedTable.contains(xBits, oBits)) continue;
+                int canonical = BoardSymmetry.canonical(xBits, oBits);
+                keys.add(BoardSymmetry.key(canonical));
+                
+                // A melhor jogada, levada ao tabuleiro canônico e de volta, é a mesma
+                int t = BoardSymmetry.transform(canonical);
+                int move = SolvedTable.bestMove(xBits, oBits);
+                if (move >= 0 && BoardSymmetry.unmapCell(t, BoardSymmetry.mapCell(t, move)) != move) {
+                    roundTripErrors++;
+                }
+                // A posição canônica tem o mesmo valor da posição real
+                int key = BoardSymmetry.key(canonical);
+                if (SolvedTable.value(key & 0x1FF, key >>> 9) != SolvedTable.value(xBits, oBits)) {
+                    roundTripErrors++;
+                }
+            }
+        }
+        System.out.println("Posições canônicas (de " + SolvedTable.positionCount() + "): " + keys.size());
+        System.out.println("Erros de mapeamento: " + roundTripErrors);
+        System.out.println();
+    }
+    
+    /**
+     * Testa tabuleiros m x n com k em linha (Gomoku)
+     */
+    private static void testLargeBoards() {
+        System.out.println("8. Testando tabuleiros m x n com k em linha:");
+        
+        // 15x15 com 5 em linha: diagonal de X
+        TicTacToe game1 = new TicTacToe(15, 15, 5);
+        for (int i = 0; i < 5; i++) {
+            game1.makeMove(3 + i, 3 + i); // X
+            if (i < 4) game1.makeMove(0, i); // O
+        }
+        System.out.println("15x15, diagonal de X: ganho " + game1.isGameWon() + ", vencedor " + game1.getWinner());
+        
+        // 19x19 com 5 em linha: quatro em linha ainda não vencem
+        TicTacToe game2 = new TicTacToe(19, 19, 5);
+        for (int i = 0; i < 4; i++) {
+            game2.makeMove(18, 14 + i); // X
+            game2.makeMove(10, 10 + i); // O
+        }
+        System.out.println("19x19, quatro em linha: ganho " + game2.isGameWon());
+        game2.makeMove(0, 0); // X
+        game2.makeMove(10, 9); // O completa cinco à esquerda
+        System.out.println("19x19, cinco de O: ganho " + game2.isGameWon() + ", vencedor " + game2.getWinner());
+        System.out.println("Jogada fora do tabuleiro (19,0): " + game2.makeMove(19, 0));
+        
+        // 4x4 com 3 em linha contra o computador
+        TicTacToe game3 = new TicTacToe(4, 4, 3, true);
+        game3.makeMove(0, 0);
+        game3.makeMove(0, 1);
+        System.out.println(game3.displayBoard());
+        System.out.println("Computador bloqueou (0,2): " + (game3.getCell(0, 2) == TicTacToe.Cell.O));
+        System.out.println();
+    }
+    
+    /**
+     * Testa o jogo 3D 4x4x4
+     */
+    private static void testQubic() {
+        System.out.println("9. Testando jogo 3D 4x4x4:");
+        System.out.println("Linhas vencedoras: " + QubicBoard.LINES.length);
+        
+        // Diagonal do cubo entre camadas
+        Qubic game1 = new Qubic();
+        for (int i = 0; i < 4; i++) {
+            game1.makeMove(i, i, i); // X
+            if (i < 3) game1.makeMove(0, 3, i); // O
+        }
+        System.out.println(game1.displayBoard());
+        System.out.println("Diagonal do cubo: ganho " + game1.isGameWon() + ", vencedor " + game1.getWinner());
+        
+        // Computador bloqueia três em linha na vertical entre camadas
+        Qubic game2 = new Qubic(true);
+        int[][] moves = {{0, 2, 1}, {1, 2, 1}, {2, 2, 1}};
+        for (int[] move : moves) {
+            if (game2.getCell(move[0], move[1], move[2]) == TicTacToe.Cell.EMPTY) {
+                game2.makeMove(move[0], move[1], move[2]);
+            }
+        }
+        System.out.println("Computador bloqueou (3,2,1): "
+                + (game2.getCell(3, 2, 1) == TicTacToe.Cell.O || game2.getCell(2, 2, 1) == TicTacToe.Cell.O));
+        System.out.println("Última busca: " + game2.getLastStats().getNodes() + " nós");
+        System.out.println();
+    }
+    
+    /**
+     * Testa desfazer e refazer jogadas
+     */
+    private static void testUndoRedo() {
+        System.out.println("10. Testando desfazer e refazer:");
+        
+        // Desfazer a jogada vencedora reabre o jogo
+        TicTacToe game1 = new TicTacToe();
+        game1.makeMove(0, 0); // X
+        game1.makeMove(1, 0); // O
+        game1.makeMove(0, 1); // X
+        game1.makeMove(1, 1); // O
+        game1.makeMove(0, 2); // X ganha
+        game1.undoMove();
+        System.out.println("Após desfazer a vitória: ganho " + game1.isGameWon()
+                + ", jogador atual " + game1.getCurrentPlayer() + ", (0,2) " + game1.getCell(0, 2));
+        game1.redoMove();
+        System.out.println("Após refazer: ganho " + game1.isGameWon() + ", vencedor " + game1.getWinner());
+        
+        // No modo contra computador, desfaz a jogada humana e a resposta
+        TicTacToe game2 = new TicTacToe(true);
+        game2.makeMove(0, 0);
+        game2.makeMove(2, 2);
+        String before = game2.displayBoard();
+        game2.undoMove();
+        System.out.println("Contra computador, após desfazer: (2,2) " + game2.getCell(2, 2)
+                + ", vez do " + game2.getCurrentPlayer());
+        game2.redoMove();
+        System.out.println("Refazer restaura o tabuleiro: " + before.equals(game2.displayBoard()));
+        
+        // Uma jogada nova descarta o refazer
+        game2.undoMove();
+        game2.makeMove(0, 2);
+        System.out.println("Pode refazer após jogada nova: " + game2.canRedo());
+        
+        // Computador começando: sua primeira jogada não é desfeita
+        TicTacToe game3 = new TicTacToe(false);
+        System.out.println("Pode desfazer a abertura do computador: " + game3.canUndo());
+        
+        // Busca exaustiva com play/unplay em uma única instância
+        TicTacToe game4 = new TicTacToe();
+        long[] leaves = new long[1];
+        countLeaves(game4, leaves);
+        System.out.println("Partidas completas (play/unplay): " + leaves[0]
+                + ", tabuleiro vazio ao final: " + (game4.getXBits() == 0 && game4.getOBits() == 0));
+        
+        // unplay com o tabuleiro vazio é recusado
+        try {
+            game4.unplay();
+            System.out.println("unplay no tabuleiro vazio foi aceito!");
+        } catch (IllegalStateException e) {
+            System.out.println("unplay no tabuleiro vazio: " + e.getMessage());
+        }
+        System.out.println();
+    }
+    
+    private static void countLeaves(TicTacToe game, long[] leaves) {
+        if (game.isGameOver()) {
+            leaves[0]++;
+            return;
+        }
+        for (int cell = 0; cell < 9; cell++) {
+            if (game.getCell(cell / 3, cell % 3) == TicTacToe.Cell.EMPTY) {
+                game.play(cell);
+                countLeaves(game, leaves);
+                game.unplay();
+            }
+        }
+    }
+    
+    /**
+     * Testa o simulador de partidas em paralelo
+     */
+    private static void testSimulator() {
+        System.out.println("11. Testando simulador de partidas:");
+        GameSimulator simulator = new GameSimulator(3, 3, 3, 2);
+        
+        GameSimulator.Result result1 = simulator.simulate(20000, SolvedTable::new, RandomStrategy::new);
+        System.out.println("Tabela vs aleatória, derrotas da tabela: " + result1.getLosses()
+                + " (partidas: " + result1.getGames() + ")");
+        
+        GameSimulator.Result result2 = simulator.simulate(2000, NegamaxEngine::new, SolvedTable::new);
+        System.out.println("Negamax vs tabela, todas empatadas: " + (result2.getDraws() == result2.getGames()));
+        System.out.println();
+    }
+    
+    /**
+     * Testa a busca com aprofundamento iterativo e prazo por jogada
+     */
+    private static void testIterativeDeepening() {
+        System.out.println("12. Testando busca com aprofundamento iterativo:");
+        
+        // 3x3 com prazo folgado: a busca chega ao fim da partida e vê o empate
+        IterativeDeepeningSearch search1 = new IterativeDeepeningSearch(5000);
+        search1.chooseMove(new TicTacToe());
+        System.out.println("3x3 vazio: profundidade " + search1.getLastStats().getDepth()
+                + ", valor " + search1.getLastStats().getScore());
+        
+        // 15x15: O precisa bloquear a quadra de X em (7,7)
+        TicTacToe game2 = new TicTacToe(15, 15, 5);
+        int[] moves = {7 * 15 + 3, 7 * 15 + 2, 7 * 15 + 4, 0, 7 * 15 + 5, 14, 7 * 15 + 6};
+        for (int move : moves) game2.play(move);
+        IterativeDeepeningSearch search2 = new IterativeDeepeningSearch();
+        System.out.println("15x15, bloqueou a quadra: " + (search2.chooseMove(game2) == 7 * 15 + 7));
+        
+        // 19x19: a resposta chega dentro do prazo (com folga para o relógio)
+        TicTacToe game3 = new TicTacToe(19, 19, 5, true);
+        game3.makeMove(9, 9);
+        game3.makeMove(8, 8);
+        SearchStats stats3 = game3.getComputerStrategy().getLastStats();
+        System.out.println("19x19, dentro do prazo: "
+                + (stats3.getElapsedNanos() < 2 * IterativeDeepeningSearch.DEFAULT_DEADLINE_MILLIS * 1000000L)
+                + ", profundidade mínima 1: " + (stats3.getDepth() >= 1));
+        
+        // Qubic: vitória imediata na coluna vertical
+        QubicBoard board4 = new QubicBoard();
+        int[] qubicMoves = {0, 1, 16, 2, 32, 3};
+        for (int move : qubicMoves) board4.play(move);
+        System.out.println("Qubic, completou a vertical: " + (new IterativeDeepeningSearch(200).chooseMove(board4) == 48));
+        
+        // Busca com prazo longo interrompida (como o cancelamento da GUI): para logo
+        MnkBoard board5 = new MnkBoard(15, 15, 5);
+        board5.play(112);
+        board5.play(113);
+        Thread thinker = new Thread(() -> new IterativeDeepeningSearch(60000).chooseMove(board5));
+        thinker.start();
+        try {
+            Thread.sleep(100);
+            long interrupted = System.nanoTime();
+            thinker.interrupt();
+            thinker.join(5000);
+            System.out.println("Interrompida, parou em menos de 1 s: " + (!thinker.isAlive()
+                    && System.nanoTime() - interrupted < 1000000000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Testa a busca em árvore Monte Carlo
+     */
+    private static void testMcts() {
+        System.out.println("13. Testando busca em árvore Monte Carlo:");
+        
+        // 15x15: X completa a quadra aberta em vez de jogar em outro lugar
+        TicTacToe game1 = new TicTacToe(15, 15, 5);
+        int[] moves = {7 * 15 + 3, 0, 7 * 15 + 4, 14, 7 * 15 + 5, 210, 7 * 15 + 6, 224};
+        for (int move : moves) game1.play(move);
+        try (MctsEngine engine1 = new MctsEngine(2, 10000, 3000)) {
+            int move1 = engine1.chooseMove(game1);
+            System.out.println("15x15, completou a quadra: " + (move1 == 7 * 15 + 2 || move1 == 7 * 15 + 7)
+                    + ", partidas: " + engine1.getLastStats().getNodes());
+            engine1.chooseMove(game1); // O mesmo pool atende a jogada seguinte
+            System.out.println("Segunda jogada com as mesmas threads: " + engine1.getLastStats().getNodes() + " partidas");
+        }
+        
+        // 3x3: O bloqueia a linha de X
+        TicTacToe game2 = new TicTacToe();
+        game2.play(0);
+        game2.play(4);
+        game2.play(1);
+        System.out.println("3x3, bloqueou (0,2): " + (new MctsEngine(1, 10000, 20000).chooseMove(game2) == 2));
+        
+        // Qubic: vitória imediata na coluna vertical
+        QubicBoard board3 = new QubicBoard();
+        int[] qubicMoves = {0, 1, 16, 2, 32, 3};
+        for (int move : qubicMoves) board3.play(move);
+        System.out.println("Qubic, completou a vertical: " + (new MctsEngine(1, 10000, 5000).chooseMove(board3) == 48));
+        System.out.println();
+    }
+    
+    /**
+     * Testa o servidor online com o cliente de referência
+     */
+    private static void testServer() {
+        System.out.println("14. Testando servidor online:");
+        TicTacToeServer server = new TicTacToeServer(0);
+        try {
+            server.start();
+            
+            // Contra o computador: o servidor responde com a jogada dele
+            try (TicTacToeClient client = new TicTacToeClient("localhost", server.getPort())) {
+                System.out.println(client.send("NOVO"));
+                System.out.println(client.send("JOGAR 0 0"));
+                System.out.println(client.send("JOGAR 0 0"));
+                System.out.println(client.send("JOGAR 9"));
+            }
+            
+            // Dois clientes: o primeiro espera e joga com X
+            try (TicTacToeClient second = new TicTacToeClient("localhost", server.getPort())) {
+                // O primeiro sai da partida ao fim do bloco interno
+                try (TicTacToeClient first = new TicTacToeClient("localhost", server.getPort())) {
+                    System.out.println(first.send("PARTIDA"));
+                    System.out.println(second.send("PARTIDA"));
+                    System.out.println(first.readLine());
+                    System.out.println(second.send("JOGAR 1 1"));
+                    System.out.println(first.send("JOGAR 1 1"));
+                    System.out.println("Adversário recebeu: " + second.readLine());
+                }
+                System.out.println("Após saída do adversário: " + second.readLine());
+            }
+
+            // Adversário derrubado (RST): quem joga em seguida continua conectado.
+            // A queda só é vista na escrita se chegar depois da jogada, daí as várias rodadas.
+            int rounds = 20;
+            int stillConnected = 0;
+            for (int round = 0; round < rounds; round++) {
+                try (TicTacToeClient mover = new TicTacToeClient("localhost", server.getPort())) {
+                    try (Socket dropped = new Socket("localhost", server.getPort())) {
+                        BufferedReader in = new BufferedReader(new InputStreamReader(dropped.getInputStream(), StandardCharsets.US_ASCII));
+                        OutputStream out = dropped.getOutputStream();
+                        out.write("PARTIDA\n".getBytes(StandardCharsets.US_ASCII));
+                        in.readLine(); // AGUARDANDO
+                        mover.send("PARTIDA");
+                        out.write("JOGAR 1 1\n".getBytes(StandardCharsets.US_ASCII));
+                        mover.readLine();
+                        dropped.setSoLinger(true, 0);
+                    }
+                    // A jogada recebe TABULEIRO com ABANDONO, ou ERRO se a queda chegou antes
+                    mover.send("JOGAR 0 0");
+                    String line = mover.send("NOVO");
+                    while (!line.startsWith("JOGO")) {
+                        line = mover.readLine();
+                    }
+                    stillConnected++;
+                } catch (IOException e) {
+                    // Desconectado por causa do adversário
+                }
+            }
+            System.out.println("Após queda do adversário: " + stillConnected + " de " + rounds + " ainda conectados");
+
+            // Carga curta: todas as jogadas têm resposta
+            long[] latencies = LoadGenerator.run("localhost", server.getPort(), 50, 20);
+            System.out.println("Carga com 50 clientes: " + latencies.length + " jogadas respondidas");
+        } catch (Exception e) {
+            System.out.println("Falha no servidor: " + e);
+        } finally {
+            server.stop();
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Testa o registro de partidas com várias threads jogando ao mesmo tempo
+     */
+    private static void testSessionRegistry() {
+        System.out.println("15. Testando registro de partidas concorrente:");
+        int games = 64;
+        int movesPerThread = 200000;
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            GameSessionRegistry registry = new GameSessionRegistry();
+            long[] ids = new long[games];
+            for (int g = 0; g < games; g++) ids[g] = registry.create();
+            // Contadores sem sincronização própria: só ficam certos se a trava da partida funcionar
+            long[] moved = new long[games];
+            long[] cleared = new long[games];
+            
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                workers[t] = new Thread(() -> {
+                    java.util.SplittableRandom random = new java.util.SplittableRandom(seed);
+                    for (int i = 0; i < movesPerThread; i++) {
+                        int g = random.nextInt(games);
+                        int cell = random.nextInt(9);
+                        registry.withGame(ids[g], game -> {
+                            if (game.isGameOver()) {
+                                cleared[g] += countStones(game);
+                                game.resetGame();
+                            } else if (game.makeMove(cell / 3, cell % 3)) {
+                                moved[g]++;
+                            }
+                            return null;
+                        });
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            for (Thread worker : workers) worker.start();
+            for (Thread worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            
+            int corrupted = 0;
+            for (int g = 0; g < games; g++) {
+                TicTacToe game = registry.snapshot(ids[g]);
+                int x = Integer.bitCount(game.getXBits());
+                int o = Integer.bitCount(game.getOBits());
+                boolean turnOk = game.isGameOver() || game.getCurrentPlayer() == (x == o ? TicTacToe.Cell.X : TicTacToe.Cell.O);
+                boolean winOk = game.isGameWon() == (TicTacToe.checkForWin(game.getXBits()) || TicTacToe.checkForWin(game.getOBits()));
+                if (x - o < 0 || x - o > 1 || !turnOk || !winOk || moved[g] != cleared[g] + x + o) {
+                    corrupted++;
+                }
+            }
+            System.out.printf("%d threads: %.0f operações/s, tabuleiros corrompidos: %d%n",
+                    threads, threads * (double) movesPerThread * 1e9 / elapsed, corrupted);
+        }
+        
+        // Expiração por inatividade
+        GameSessionRegistry registry = new GameSessionRegistry(50);
+        long id = registry.create();
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("Partidas expiradas: " + registry.expireIdle() + ", ainda registrada: " + registry.contains(id));
+        try {
+            registry.makeMove(id, 0, 0);
+            System.out.println("Jogada em partida expirada aceita (erro)");
+        } catch (java.util.NoSuchElementException e) {
+            System.out.println("Jogada em partida expirada rejeitada: " + e.getMessage());
+        }
+        System.out.println();
+    }
+    
+    private static int countStones(TicTacToe game) {
+        return Integer.bitCount(game.getXBits()) + Integer.bitCount(game.getOBits());
+    }
+    
+    /**
+     * Testa o jogo atômico: mesmas respostas que TicTacToe e jogadas simultâneas
+     */
+    private static void testAtomicGame() {
+        System.out.println("16. Testando jogo atômico (estado em um long):");
+        
+        // Mesmas respostas que TicTacToe em partidas aleatórias, com jogadas inválidas
+        java.util.SplittableRandom random = new java.util.SplittableRandom(7);
+        int divergences = 0;
+        for (int g = 0; g < 20000; g++) {
+            boolean computer = g % 3 != 0;
+            boolean humanFirst = g % 3 == 1;
+            TicTacToe expected = computer ? new TicTacToe(humanFirst) : new TicTacToe();
+            AtomicTicTacToe actual = computer ? new AtomicTicTacToe(humanFirst) : new AtomicTicTacToe();
+            while (!expected.isGameOver()) {
+                int row = random.nextInt(4);
+                int col = random.nextInt(4);
+                if (expected.makeMove(row, col) != actual.makeMove(row, col) || !sameGame(expected, actual)) {
+                    divergences++;
+                    break;
+                }
+            }
+        }
+        System.out.println("Divergências em 20000 partidas: " + divergences);
+        
+        // Várias threads disputando as mesmas jogadas: cada célula é aceita uma única vez
+        int threads = 4;
+        int rounds = 20000;
+        AtomicTicTacToe shared = new AtomicTicTacToe();
+        java.util.concurrent.atomic.AtomicLong accepted = new java.util.concurrent.atomic.AtomicLong();
+        java.util.concurrent.atomic.AtomicLong stones = new java.util.concurrent.atomic.AtomicLong();
+        java.util.concurrent.atomic.AtomicInteger inconsistent = new java.util.concurrent.atomic.AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers[t] = new Thread(() -> {
+                java.util.SplittableRandom rnd = new java.util.SplittableRandom(seed);
+                for (int i = 0; i < rounds; i++) {
+                    long state = shared.getState();
+                    int x = Integer.bitCount(AtomicTicTacToe.xBits(state));
+                    int o = Integer.bitCount(AtomicTicTacToe.oBits(state));
+                    if (x - o < 0 || x - o > 1) inconsistent.incrementAndGet();
+                    if (AtomicTicTacToe.isGameOver(state)) {
+                        // Só uma thread reinicia cada partida terminada
+                        synchronized (shared) {
+                            if (shared.getState() == state) {
+                                stones.addAndGet(x + o);
+                                shared.resetGame();
+                            }
+                        }
+                    } else if (shared.makeMove(rnd.nextInt(3), rnd.nextInt(3))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long state = shared.getState();
+        stones.addAndGet(Integer.bitCount(AtomicTicTacToe.xBits(state)) + Integer.bitCount(AtomicTicTacToe.oBits(state)));
+        System.out.println("Jogadas aceitas = peças colocadas: " + (accepted.get() == stones.get())
+                + ", estados inconsistentes lidos: " + inconsistent.get());
+        System.out.println();
+    }
+    
+    private static boolean sameGame(TicTacToe expected, AtomicTicTacToe actual) {
+        for (int cell = 0; cell < 9; cell++) {
+            if (expected.getCell(cell / 3, cell % 3) != actual.getCell(cell / 3, cell % 3)) {
+                return false;
+            }
+        }
+        return expected.getWinner() == actual.getWinner() && expected.isGameOver() == actual.isGameOver()
+                && expected.isGameWon() == actual.isGameWon() && expected.isGameTied() == actual.isGameTied()
+                && expected.getCurrentPlayer() == actual.getCurrentPlayer();
+    }
+    
+    /**
+     * Testa a gravação e a leitura de partidas no formato binário
+     */
+    private static void testGameRecords() {
+        System.out.println("17. Testando arquivo binário de partidas:");
+        int games = 10000;
+        int[] xBits = new int[games];
+        int[] oBits = new int[games];
+        
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        RandomStrategy random = new RandomStrategy(3);
+        TicTacToe game = new TicTacToe();
+        try (GameRecordWriter writer = new GameRecordWriter(bytes)) {
+            for (int g = 0; g < games; g++) {
+                game.resetGame();
+                // Algumas partidas ficam inacabadas
+                int limit = (g % 10 == 0) ? g % 9 : 9;
+                while (!game.isGameOver() && game.getBoard().getMoveCount() < limit) {
+                    game.play(random.chooseMove(game));
+                }
+                xBits[g] = game.getXBits();
+                oBits[g] = game.getOBits();
+                writer.write(game);
+            }
+            writer.flush();
+            System.out.printf("Bytes por partida: %.2f%n", (double) writer.getBytesWritten() / games);
+        } catch (IOException e) {
+            System.out.println("Falha na gravação: " + e);
+        }
+        
+        java.nio.file.Path file = null;
+        try {
+            file = java.nio.file.Files.createTempFile("partidas", ".jdv");
+            java.nio.file.Files.write(file, bytes.toByteArray());
+            try (GameRecordReader stream = new GameRecordReader(new java.io.ByteArrayInputStream(bytes.toByteArray()));
+                 GameRecordReader mapped = GameRecordReader.mapped(file)) {
+                System.out.println("Leitura em fluxo, partidas idênticas: " + countReplayed(stream, xBits, oBits));
+                System.out.println("Leitura mapeada, partidas idênticas: " + countReplayed(mapped, xBits, oBits));
+            }
+            
+            // Dados corrompidos são rejeitados
+            try (GameRecordReader corrupt = new GameRecordReader(new java.io.ByteArrayInputStream(new byte[] {(byte) 0xC3}))) {
+                corrupt.next();
+                System.out.println("Dados corrompidos aceitos (erro)");
+            } catch (IOException e) {
+                System.out.println("Dados corrompidos rejeitados: " + e.getMessage());
+            }
+            // Célula 12, célula 4 repetida e vitória de X com uma jogada só
+            byte[][] invalid = {{0x01, 0x0C}, {0x02, 0x44}, {0x11, 0x04}};
+            int rejected = 0;
+            for (byte[] record : invalid) {
+                try (GameRecordReader reader = new GameRecordReader(new java.io.ByteArrayInputStream(record))) {
+                    reader.next();
+                } catch (IOException e) {
+                    rejected++;
+                }
+            }
+            System.out.println("Jogadas ou resultado inválidos rejeitados: " + rejected + " de " + invalid.length);
+        } catch (IOException e) {
+            System.out.println("Falha na leitura: " + e);
+        } finally {
+            try {
+                if (file != null) java.nio.file.Files.delete(file);
+            } catch (IOException e) {
+                // Arquivo temporário
+            }
+        }
+        System.out.println();
+    }
+    
+    private static int countReplayed(GameRecordReader reader, int[] xBits, int[] oBits) throws java.io.IOException {
+        TicTacToe game = new TicTacToe();
+        int same = 0;
+        int g = 0;
+        while (reader.next()) {
+            reader.replay(game);
+            if (game.getXBits() == xBits[g] && game.getOBits() == oBits[g]
+                    && GameRecordWriter.result(game) == reader.getResult()) {
+                same++;
+            }
+            g++;
+        }
+        return same;
+    }
+    
+    /**
+     * Testa o banco de posições em arquivo mapeado
+     */
+    private static void testPositionDatabase() {
+        System.out.println("18. Testando banco de posições mapeado em memória:");
+        
+        // A chave só depende das células ocupadas, não da ordem das jogadas
+        MnkBoard board1 = new MnkBoard(9, 9, 4);
+        MnkBoard board2 = new MnkBoard(9, 9, 4);
+        int[] order1 = {40, 41, 30, 31};
+        int[] order2 = {30, 31, 40, 41};
+        for (int i = 0; i < 4; i++) {
+            board1.play(order1[i]);
+            board2.play(order2[i]);
+        }
+        System.out.println("Transposição com a mesma chave: " + (board1.positionHash() == board2.positionHash())
+                + ", tabuleiro vazio 9x9 diferente de 10x10: "
+                + (new MnkBoard(9, 9, 4).positionHash() != new MnkBoard(10, 10, 4).positionHash()));
+        
+        java.nio.file.Path file = null;
+        try {
+            file = java.nio.file.Files.createTempFile("posicoes", ".jdvb");
+            int analysed;
+            try (PositionDatabase database = PositionDatabase.create(file, 100)) {
+                analysed = new PositionDatabaseBuilder(database, 81, 2, 4, 5).build(new MnkBoard(9, 9, 4));
+            }
+            
+            try (PositionDatabase database = PositionDatabase.open(file)) {
+                System.out.println("Posições analisadas: " + analysed + ", no banco: " + database.size());
+                MnkBoard empty = new MnkBoard(9, 9, 4);
+                long entry = database.get(empty.positionHash());
+                IterativeDeepeningSearch search = new IterativeDeepeningSearch();
+                search.setPositionDatabase(database);
+                int move = search.chooseMove(empty);
+                System.out.println("Jogada do banco: " + (move == PositionDatabase.getMove(entry))
+                        + ", sem busca: " + (search.getLastStats().getNodes() == 0));
+                System.out.println("Posição fora do banco: " + database.get(board1.positionHash()));
+                try {
+                    database.put(1, 0, 0, 0);
+                    System.out.println("Gravação em banco só de leitura aceita (erro)");
+                } catch (IllegalStateException e) {
+                    System.out.println("Gravação em banco só de leitura rejeitada: " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Falha no banco de posições: " + e);
+        } finally {
+            try {
+                if (file != null) java.nio.file.Files.delete(file);
+            } catch (IOException e) {
+                // Arquivo temporário
+            }
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Testa os histogramas e a exposição das métricas via JMX
+     */
+    private static void testMetrics() {
+        System.out.println("19. Testando métricas:");
+        
+        // Percentis com erro relativo de até 12,5%
+        LogHistogram histogram = new LogHistogram();
+        for (int value = 1; value <= 100000; value++) histogram.record(value);
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        System.out.println("Histograma de 1 a 100000: p50 " + (p50 >= 50000 && p50 <= 50000 * 1.125)
+                + ", p99 " + (p99 >= 99000 && p99 <= 99000 * 1.125) + ", contagem " + histogram.getCount());
+        
+        // Atributos lidos pelo servidor de MBeans
+        GameMetrics metrics = GameMetrics.get();
+        metrics.reset();
+        metrics.recordMove(true);
+        metrics.recordMove(true);
+        metrics.recordMove(false);
+        metrics.recordGameOver(TicTacToe.Cell.EMPTY);
+        metrics.recordComputerMove(2000000, 550);
+        metrics.recordCache(4, 3);
+        try {
+            javax.management.MBeanServer server = java.lang.management.ManagementFactory.getPlatformMBeanServer();
+            javax.management.ObjectName name = new javax.management.ObjectName("jogodavelha.teste:type=GameMetrics");
+            server.registerMBean(metrics, name);
+            System.out.println("JMX: jogadas " + server.getAttribute(name, "Moves")
+                    + ", inválidas " + server.getAttribute(name, "InvalidMoves")
+                    + ", empates " + server.getAttribute(name, "Draws")
+                    + ", acertos no cache " + server.getAttribute(name, "CacheHitRate"));
+            server.unregisterMBean(name);
+        } catch (javax.management.JMException e) {
+            System.out.println("Falha no JMX: " + e);
+        }
+        System.out.println("Métricas em texto: " + metrics);
+        metrics.reset();
+        System.out.println();
+    }
+    
+    /**
+     * Testa a análise de posições em lote
+     */
+    private static void testBatchAnalysis() {
+        System.out.println("20. Testando análise em lote:");
+        
+        // Posições de partidas aleatórias, com algumas linhas inválidas no meio
+        RandomStrategy random = new RandomStrategy(11);
+        TicTacToe game = new TicTacToe();
+        StringBuilder input = new StringBuilder();
+        java.util.List<String> positions = new java.util.ArrayList<>();
+        while (positions.size() < 20000) {
+            game.resetGame();
+            while (!game.isGameOver()) {
+                game.play(random.chooseMove(game));
+                positions.add(game.toBoardString());
+            }
+            positions.add("XX.......");
+        }
+        for (String position : positions) input.append(position).append('\n');
+        
+        java.io.StringWriter output = new java.io.StringWriter();
+        try {
+            long count = new BatchAnalyzer(SolvedTable::new, 2).analyze(
+                    new java.io.BufferedReader(new java.io.StringReader(input.toString())), output);
+            String[] lines = output.toString().split("\n");
+            int ordered = 0;
+            int bestMoves = 0;
+            int errors = 0;
+            for (int i = 0; i < lines.length; i++) {
+                String[] parts = lines[i].split(" ");
+                if (parts[0].equals(positions.get(i))) ordered++;
+                if (parts[1].equals("ERRO")) {
+                    errors++;
+                } else if (!parts[1].equals("FIM")) {
+                    TicTacToe position = TicTacToe.fromBoardString(parts[0]);
+                    int move = Integer.parseInt(parts[1]) * 3 + Integer.parseInt(parts[2]);
+                    if (move == SolvedTable.bestMove(position.getXBits(), position.getOBits())) bestMoves++;
+                }
+            }
+            System.out.println("Posições: " + count + ", respostas na ordem da entrada: " + (ordered == lines.length)
+                    + ", inválidas: " + errors);
+            System.out.println("Melhores jogadas conferidas: " + (bestMoves + errors + countFinished(lines) == lines.length));
+            System.out.println("Exemplo: " + BatchAnalyzer.analyzeLine("X...O....", new NegamaxEngine()).replaceAll(" \\d+ \\d+$", ""));
+        } catch (IOException e) {
+            System.out.println("Falha na análise em lote: " + e);
+        }
+        System.out.println();
+    }
+    
+    private static int countFinished(String[] lines) {
+        int finished = 0;
+        for (String line : lines) {
+            if (line.contains(" FIM ")) finished++;
+        }
+        return finished;
+    }
+    
+    /**
+     * Testa o desenho em Appendable e o redesenho incremental ANSI
+     */
+    private static void testRendering() {
+        System.out.println("21. Testando desenho do tabuleiro:");
+        
+        TicTacToe game = new TicTacToe(15, 15, 5);
+        game.makeMove(7, 7);
+        game.makeMove(0, 14);
+        StringBuilder frame = new StringBuilder();
+        try {
+            game.renderBoard(frame);
+            System.out.println("renderBoard igual a displayBoard: " + frame.toString().equals(game.displayBoard()));
+            
+            AnsiBoardRenderer renderer = new AnsiBoardRenderer(15, 15);
+            frame.setLength(0);
+            renderer.render(game, frame);
+            int fullFrame = frame.length();
+            
+            game.makeMove(10, 3);
+            frame.setLength(0);
+            renderer.render(game, frame);
+            // Linha 3 + 2*10, coluna 2 + 2 + 4*3 (rótulos de 2 dígitos)
+            System.out.println("Quadro completo: " + fullFrame + " caracteres; após uma jogada: " + frame.length()
+                    + " (células: " + renderer.getLastChangedCells() + ")");
+            System.out.println("Célula redesenhada no lugar certo: " + frame.toString().startsWith("\u001B[23;16HX"));
+            
+            game.undoMove();
+            frame.setLength(0);
+            renderer.render(game, frame);
+            System.out.println("Desfazer apaga a célula: " + frame.toString().startsWith("\u001B[23;16H "));
+            
+            frame.setLength(0);
+            renderer.render(game, frame);
+            System.out.println("Sem mudanças, nenhuma célula redesenhada: " + (renderer.getLastChangedCells() == 0));
+        } catch (IOException e) {
+            System.out.println("Falha no desenho: " + e);
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Testa o tabuleiro desenhado: cliques, avisos de jogada e redesenho parcial
+     */
+    private static void testBoardView() {
+        System.out.println("22. Testando o tabuleiro desenhado (BoardView):");
+        
+        TicTacToe game = new TicTacToe(19, 19, 5);
+        BoardView view = new BoardView(19, 19);
+        view.setSize(760, 760);
+        game.addMoveListener(view);
+        
+        // Cliques no centro de cada célula voltam à mesma célula
+        boolean clicksOk = true;
+        for (int cell = 0; cell < 19 * 19; cell++) {
+            java.awt.Rectangle bounds = view.cellBounds(cell);
+            clicksOk &= view.cellAt((int) bounds.getCenterX(), (int) bounds.getCenterY()) == cell;
+        }
+        System.out.println("Cliques convertidos em células: " + clicksOk);
+        
+        int[] moves = {180, 181, 199, 161, 218};
+        for (int move : moves) game.play(move);
+        long repainted = view.getRepaintedCells();
+        boolean mirrored = view.getCell(180) == TicTacToe.Cell.X && view.getCell(181) == TicTacToe.Cell.O;
+        System.out.println("Jogadas refletidas: " + mirrored + ", células redesenhadas em " + moves.length
+                + " jogadas: " + repainted + " (de " + 19 * 19 * moves.length + " numa varredura completa)");
+        
+        game.undoMove();
+        System.out.println("Desfazer libera a célula: " + (view.getCell(218) == TicTacToe.Cell.EMPTY));
+        
+        TicTacToe copy = new TicTacToe(game);
+        copy.play(0);
+        System.out.println("Cópia do jogo não avisa a visualização: " + (view.getCell(0) == TicTacToe.Cell.EMPTY));
+        
+        java.awt.image.BufferedImage image = new java.awt.image.BufferedImage(760, 760,
+                java.awt.image.BufferedImage.TYPE_INT_RGB);
+        java.awt.Graphics2D graphics = image.createGraphics();
+        view.paint(graphics);
+        graphics.dispose();
+        java.awt.Rectangle xCell = view.cellBounds(180);
+        System.out.println("X desenhado no centro da célula: "
+                + (image.getRGB((int) xCell.getCenterX(), (int) xCell.getCenterY()) != java.awt.Color.WHITE.getRGB()));
+        
+        game.resetGame();
+        System.out.println("Reinício limpa a visualização: " + (view.getCell(180) == TicTacToe.Cell.EMPTY));
+        
+        // 4x4x4: quatro camadas, cliques no espaço entre elas são ignorados
+        Qubic qubic = new Qubic();
+        BoardView qubicView = new BoardView(4, 4, 4);
+        qubicView.setSize(412, 412);
+        qubic.addMoveListener(qubicView);
+        qubic.makeMove(3, 2, 1);
+        java.awt.Rectangle last = qubicView.cellBounds(Qubic.cellIndex(3, 2, 1));
+        System.out.println("4x4x4: jogada na camada 3 refletida: "
+                + (qubicView.getCell(Qubic.cellIndex(3, 2, 1)) == TicTacToe.Cell.X)
+                + ", clique de volta na célula: "
+                + (qubicView.cellAt((int) last.getCenterX(), (int) last.getCenterY()) == Qubic.cellIndex(3, 2, 1))
+                + ", clique entre camadas ignorado: " + (qubicView.cellAt(206, 100) == -1));
+        System.out.println();
+    }
+    
+    /**
+     * Testa o hash de Zobrist incremental
+     */
+    private static void testZobristHash() {
+        System.out.println("23. Testando hash de Zobrist incremental:");
+        
+        // Todas as posições alcançáveis do 3x3: um hash diferente para cada tabuleiro
+        java.util.Set<String> boards = new java.util.HashSet<>();
+        java.util.Set<Long> hashes = new java.util.HashSet<>();
+        collectPositions(new TicTacToe(), boards, hashes);
+        System.out.println("Posições 3x3: " + boards.size() + ", hashes distintos: " + hashes.size());
+        
+        // Jogadas e desfeitas aleatórias: o hash incremental confere com o de um
+        // tabuleiro novo com as mesmas pedras, jogadas em outra ordem
+        java.util.Random random = new java.util.Random(23);
+        MnkBoard board = new MnkBoard(15, 15, 5);
+        long emptyHash = board.positionHash();
+        boolean matches = true;
+        int[] moves = new int[board.cellCount()];
+        for (int step = 0; step < 2000; step++) {
+            if (board.moveCount() > 0 && (board.isWon() || random.nextInt(3) == 0)) {
+                board.undo();
+            } else {
+                int count = board.generateMoves(moves);
+                board.play(moves[random.nextInt(count)]);
+            }
+            if (step % 50 == 0) matches &= board.positionHash() == replayReversed(board).positionHash();
+        }
+        while (board.moveCount() > 0) board.undo();
+        System.out.println("15x15: hash incremental igual ao recalculado: " + matches
+                + ", volta ao hash vazio: " + (board.positionHash() == emptyHash));
+        
+        QubicBoard qubic = new QubicBoard();
+        long qubicEmpty = qubic.positionHash();
+        qubic.play(0);
+        qubic.play(63);
+        long afterTwo = qubic.positionHash();
+        QubicBoard transposed = new QubicBoard();
+        transposed.play(0);
+        transposed.play(21);
+        transposed.undo();
+        transposed.play(63);
+        qubic.undo();
+        qubic.undo();
+        System.out.println("4x4x4: transposição com o mesmo hash: " + (transposed.positionHash() == afterTwo)
+                + ", cópia mantém o hash: " + (transposed.copy().positionHash() == afterTwo)
+                + ", volta ao hash vazio: " + (qubic.positionHash() == qubicEmpty));
+        
+        TicTacToe game = new TicTacToe();
+        long start = game.positionHash();
+        game.makeMove(1, 1);
+        boolean stable = game.positionHash() == new TicTacToe(game).positionHash()
+                && start == new TicTacToe().positionHash();
+        game.undoMove();
+        System.out.println("TicTacToe: hash estável entre instâncias: " + stable
+                + ", desfazer restaura o hash: " + (game.positionHash() == start));
+        System.out.println();
+    }
+    
+    private static void collectPositions(TicTacToe game, java.util.Set<String> boards, java.util.Set<Long> hashes) {
+        if (!boards.add(game.toBoardString())) return;
+        hashes.add(game.positionHash());
+        if (game.isGameOver()) return;
+        for (int cell = 0; cell < 9; cell++) {
+            if (game.getBoard().isEmpty(cell)) {
+                game.play(cell);
+                collectPositions(game, boards, hashes);
+                game.unplay();
+            }
+        }
+    }
+    
+    /**
+     * Novo tabuleiro com as mesmas pedras, colocadas da última para a primeira
+     */
+    private static MnkBoard replayReversed(MnkBoard board) {
+        MnkBoard copy = new MnkBoard(board.getRows(), board.getCols(), board.getWinLength());
+        for (int ply = board.moveCount() - 1; ply >= 0; ply--) {
+            int cell = board.getMove(ply);
+            copy.place(cell, board.get(cell));
+        }
+        return copy;
+    }
+    
+    /**
+     * Testa a busca paralela Lazy SMP e a tabela de transposição compartilhada
+     */
+    private static void testLazySmp() {
+        System.out.println("24. Testando busca paralela (Lazy SMP):");
+        
+        // Tabela sem travas: com gravações concorrentes, toda leitura encontrada
+        // pertence ao hash procurado (dados derivados do próprio hash)
+        SharedTranspositionTable table = new SharedTranspositionTable(1 << 10);
+        java.util.concurrent.atomic.AtomicLong hits = new java.util.concurrent.atomic.AtomicLong();
+        java.util.concurrent.atomic.AtomicLong corrupted = new java.util.concurrent.atomic.AtomicLong();
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            final long seed = t;
+            writers[t] = new Thread(() -> {
+                java.util.SplittableRandom random = new java.util.SplittableRandom(seed);
+                for (int i = 0; i < 200000; i++) {
+                    long hash = GamePosition.mix(random.nextInt(4096));
+                    long data = table.probe(hash);
+                    if (data != 0) {
+                        hits.incrementAndGet();
+                        if (data != expectedEntry(hash)) corrupted.incrementAndGet();
+                    }
+                    table.store(hash, expectedEntry(hash));
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("Tabela compartilhada: " + hits.get() + " acertos, entradas corrompidas: " + corrupted.get());
+        
+        // Busca completa no 3x3: mesmos valores da busca sem tabela
+        RandomStrategy random = new RandomStrategy(24);
+        LazySmpSearch parallel = new LazySmpSearch(4, 60000, 9);
+        int agree = 0;
+        int positions = 0;
+        TicTacToe game = new TicTacToe();
+        while (positions < 100) {
+            game.resetGame();
+            int plies = positions % 7;
+            for (int i = 0; i < plies && !game.isGameOver(); i++) game.play(random.chooseMove(game));
+            if (game.isGameOver()) continue;
+            positions++;
+            AlphaBetaSearch plain = new AlphaBetaSearch(9);
+            plain.chooseMove(new MnkBoard(game.getBoard()));
+            parallel.chooseMove(game);
+            if (parallel.getLastStats().getScore() == plain.getLastStats().getScore()) agree++;
+        }
+        System.out.println("3x3: valores iguais aos da busca sem tabela em " + agree + " de " + positions + " posições");
+        
+        // Gomoku: X completa o quatro aberto (vitória forçada)
+        MnkBoard board = new MnkBoard(15, 15, 5);
+        int[] moves = {112, 0, 113, 14, 114, 210};
+        for (int move : moves) board.play(move);
+        int move = parallel.chooseMove(board);
+        System.out.println("Gomoku: jogada " + move + " (111 ou 115), vitória forçada: "
+                + (parallel.getLastStats().getScore() >= AlphaBetaSearch.WIN_SCORE - board.cellCount())
+                + ", posição preservada: " + (board.moveCount() == moves.length));
+        parallel.close();
+        System.out.println("Tabela solta após close(): " + (parallel.getTranspositionTable() == null));
+        System.out.println();
+    }
+    
+    private static long expectedEntry(long hash) {
+        return TranspositionTable.entry((int) (hash & 0xFF), (int) (hash >>> 8) & 0xFF, 1, (int) (hash >>> 32));
+    }
+    
+    /**
+     * Testa a tabela de transposição fora do heap e a política de substituição
+     */
+    private static void testOffHeapTable() {
+        System.out.println("25. Testando tabela de transposição fora do heap:");
+        
+        OffHeapTranspositionTable table = new OffHeapTranspositionTable(1);
+        long buckets = table.sizeBytes() / 32;
+        System.out.println("Tamanho: " + table.sizeBytes() + " bytes (" + buckets + " baldes)");
+        
+        // Quatro posições no mesmo balde
+        long h1 = GamePosition.mix(1);
+        long h2 = h1 + buckets;
+        long h3 = h1 + 2 * buckets;
+        long h4 = h1 + 3 * buckets;
+        table.store(h1, TranspositionTable.entry(10, 10, TranspositionTable.EXACT, 500));
+        table.store(h2, TranspositionTable.entry(20, 2, TranspositionTable.LOWER, -7));
+        boolean both = TranspositionTable.getScore(table.probe(h1)) == 500
+                && TranspositionTable.getMove(table.probe(h2)) == 20;
+        table.store(h3, TranspositionTable.entry(30, 3, TranspositionTable.UPPER, 1));
+        boolean deepKept = table.probe(h1) != 0 && table.probe(h2) == 0 && table.probe(h3) != 0;
+        table.newSearch();
+        table.store(h4, TranspositionTable.entry(40, 1, TranspositionTable.EXACT, 0));
+        boolean aged = table.probe(h4) != 0 && table.probe(h1) != 0 && table.probe(h3) == 0;
+        System.out.println("Duas posições por balde: " + both + ", a mais funda é mantida: " + deepKept
+                + ", entrada de jogada anterior é substituída: " + aged);
+        System.out.println("Dados preservados: " + (TranspositionTable.getDepth(table.probe(h1)) == 10
+                && TranspositionTable.getBound(table.probe(h1)) == TranspositionTable.EXACT));
+        
+        // Plugada na busca com aprofundamento iterativo: menos nós na mesma profundidade
+        MnkBoard board = new MnkBoard(15, 15, 5);
+        int[] moves = {112, 113, 97, 128};
+        for (int move : moves) board.play(move);
+        IterativeDeepeningSearch withoutTable = new IterativeDeepeningSearch(60000, 4);
+        withoutTable.chooseMove(board);
+        table.clear();
+        IterativeDeepeningSearch withTable = new IterativeDeepeningSearch(60000, 4);
+        withTable.setTranspositionTable(table);
+        withTable.chooseMove(board);
+        System.out.println("Profundidade 4 no Gomoku: " + withoutTable.getLastStats().getNodes() + " nós sem tabela, "
+                + withTable.getLastStats().getNodes() + " com tabela");
+        System.out.println("Estatísticas: acertos > 0: " + (table.getHitRate() > 0) + ", ocupação > 0: "
+                + (table.getFillRate() > 0) + ", gravações: " + (table.getStores() > 0));
+        System.out.println();
+    }
+    
+    /**
+     * Testa a avaliação incremental por padrões e a busca de ameaças
+     */
+    private static void testThreatSearch() {
+        System.out.println("26. Testando avaliação incremental e busca de ameaças:");
+        
+        // Jogadas, desfeitas e cópias aleatórias: a soma incremental confere com a varredura
+        java.util.Random random = new java.util.Random(26);
+        MnkBoard board = new MnkBoard(15, 15, 5);
+        MnkBoard copy = new MnkBoard(15, 15, 5);
+        boolean matches = true;
+        int[] moves = new int[board.cellCount()];
+        for (int step = 0; step < 3000; step++) {
+            if (board.moveCount() > 0 && (board.isWon() || random.nextInt(3) == 0)) {
+                board.undo();
+            } else {
+                int count = board.generateMoves(moves);
+                board.play(moves[random.nextInt(count)]);
+            }
+            matches &= board.evaluate() == board.evaluateByScan();
+            if (step % 10 == 0) matches &= threatWindowsMatch(board);
+            if (step % 100 == 0) {
+                copy.copyFrom(board);
+                matches &= copy.evaluate() == board.evaluate() && board.copy().evaluate() == board.evaluate();
+            }
+        }
+        while (board.moveCount() > 0) board.undo();
+        ThreatEvaluator threats = board.getThreatEvaluator();
+        boolean empty = board.evaluate() == 0;
+        for (int n = 1; n <= 5; n++) {
+            empty &= threats.getPatternCount(GamePosition.X, n) == 0 && threats.getPatternCount(GamePosition.O, n) == 0;
+        }
+        System.out.println("Avaliação e conjuntos de ameaças incrementais iguais à varredura: " + matches
+                + ", volta a zero: " + empty);
+        
+        // Padrões: três X em linha com um lado bloqueado
+        board.place(7 * 15 + 7, GamePosition.X);
+        board.place(7 * 15 + 8, GamePosition.X);
+        board.place(7 * 15 + 9, GamePosition.X);
+        board.place(7 * 15 + 6, GamePosition.O);
+        System.out.println("Janelas com 3 X: " + threats.getPatternCount(GamePosition.X, 3)
+                + ", com 4 X: " + threats.getPatternCount(GamePosition.X, 4));
+        
+        // Custo da avaliação de uma folha
+        int calls = 20000;
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < calls; i++) sum += board.evaluate();
+        long incremental = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < calls; i++) sum -= board.evaluateByScan();
+        long scan = System.nanoTime() - start;
+        System.out.println("Avaliação: incremental " + incremental / calls + " ns, varredura " + scan / calls
+                + " ns (mesmo resultado: " + (sum == 0) + ")");
+        
+        // Vitória por quatros: X joga (7,10) fazendo um quatro na linha 7, O bloqueia
+        // (7,11), e X (8,10) faz dois quatros de uma vez (coluna 10 e linha 8)
+        int[] xs = {7 * 15 + 7, 7 * 15 + 8, 7 * 15 + 9, 5 * 15 + 10, 9 * 15 + 10, 8 * 15 + 11, 8 * 15 + 12, 8 * 15 + 13};
+        int[] os = {7 * 15 + 6, 8 * 15 + 14, 0, 14, 14 * 15, 14 * 15 + 14, 7, 14 * 15 + 7};
+        board.clear();
+        for (int i = 0; i < xs.length; i++) {
+            board.place(xs[i], GamePosition.X);
+            board.place(os[i], GamePosition.O);
+        }
+        long hash = board.positionHash();
+        ThreatSpaceSearch threatSearch = new ThreatSpaceSearch();
+        int move = threatSearch.findWin(board);
+        System.out.println("Busca de ameaças: jogada (" + move / 15 + "," + move % 15 + "), vitória em "
+                + threatSearch.getWinPlies() + " jogadas, " + threatSearch.getNodes() + " nós, posição restaurada: "
+                + (board.positionHash() == hash));
+        AlphaBetaSearch alphaBeta = new AlphaBetaSearch(1);
+        alphaBeta.reset(board.cellCount());
+        alphaBeta.searchRoot(board, threatSearch.getWinPlies(), -1, AlphaBetaSearch.NO_DEADLINE);
+        System.out.println("Alfa-beta na mesma profundidade confirma: "
+                + (alphaBeta.getRootScore() == AlphaBetaSearch.WIN_SCORE - threatSearch.getWinPlies())
+                + " (" + alphaBeta.getNodes() + " nós)");
+        
+        // Com um quatro de O na linha 0, X precisa bloquear e o bloqueio não é ameaça: sem vitória provada
+        board.place(1, GamePosition.O);
+        board.place(10 * 15, GamePosition.X);
+        board.place(2, GamePosition.O);
+        board.place(12 * 15 + 3, GamePosition.X);
+        board.place(3, GamePosition.O);
+        board.place(10 * 15 + 14, GamePosition.X);
+        System.out.println("Adversário com quatro (bloqueio obrigatório): " + threatSearch.findWin(board));
+        
+        // A busca com aprofundamento iterativo joga a vitória sem a busca alfa-beta
+        while (board.moveCount() > 2 * xs.length) board.undo();
+        IterativeDeepeningSearch search = new IterativeDeepeningSearch(60000);
+        System.out.println("Aprofundamento iterativo: jogada " + search.chooseMove(board) + ", "
+                + search.getLastStats().getNodes() + " nós, valor " + search.getLastStats().getScore());
+        
+        // Posições aleatórias sem quatros: custo por nó da busca
+        long threatNodes = 0;
+        long threatNanos = 0;
+        long largest = 0;
+        MnkBoard hardest = null;
+        for (int game = 0; game < 300; game++) {
+            board.clear();
+            int target = 20 + random.nextInt(100);
+            for (int attempt = 0; attempt < 2000 && board.moveCount() < target; attempt++) {
+                int count = board.generateMoves(moves);
+                board.play(moves[random.nextInt(count)]);
+                if (board.isWon() || threats.getPatternCount(board.sideToMove() ^ 1, 4) > 0) {
+                    board.undo();
+                }
+            }
+            start = System.nanoTime();
+            threatSearch.findWin(board);
+            threatNanos += System.nanoTime() - start;
+            threatNodes += threatSearch.getNodes();
+            if (threatSearch.getNodes() > largest) {
+                largest = threatSearch.getNodes();
+                hardest = board.copy();
+            }
+        }
+        System.out.println("Busca de ameaças em 300 posições aleatórias: " + threatNodes + " nós (até " + largest
+                + " em uma), " + threatNanos / Math.max(1, threatNodes) + " ns por nó");
+        threatSearch.findWin(hardest, System.nanoTime());
+        System.out.println("Prazo já esgotado: busca interrompida: " + threatSearch.wasAborted() + ", "
+                + threatSearch.getNodes() + " nós");
+        System.out.println();
+    }
+    
+    /**
+     * Confere os conjuntos de janelas com k - 1 e k - 2 pedras com o tabuleiro
+     */
+    private static boolean threatWindowsMatch(MnkBoard board) {
+        ThreatEvaluator threats = board.getThreatEvaluator();
+        int k = board.getWinLength();
+        for (int player = 0; player < 2; player++) {
+            for (int n = k - 2; n <= k - 1; n++) {
+                java.util.Set<Integer> windows = new java.util.HashSet<>();
+                for (int j = 0; j < threats.getPatternCount(player, n); j++) {
+                    int w = threats.getThreatWindow(player, n, j);
+                    int own = 0;
+                    int other = 0;
+                    for (int i = 0; i < k; i++) {
+                        int cell = board.get(threats.getWindowCell(w, i));
+                        if (cell == player) own++;
+                        else if (cell != GamePosition.EMPTY) other++;
+                    }
+                    if (own != n || other != 0 || !windows.add(w)) return false;
+                }
+            }
+        }
+        return true;
+    }
+}
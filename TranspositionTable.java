@@ -0,0 +1,67 @@
+/**
+ * Interface TranspositionTable - Tabela de transposição das buscas alfa-beta
+ * Guarda, pelo hash da posição (GamePosition.positionHash), o resultado de
+ * buscas já feitas. As implementações podem ser usadas por várias threads ao
+ * mesmo tempo (Lazy SMP) sem travas: uma leitura devolve uma entrada
+ * completa gravada para aquele hash, ou 0.
+ *
+ * Os dados de uma entrada ficam em um long:
+ *   bits  0-15: jogada + 1 (0 sem jogada)
+ *   bits 16-23: profundidade
+ *   bits 24-25: tipo do valor (EXACT, LOWER ou UPPER)
+ *   bits 26-31: livres para a tabela (ex: idade da entrada)
+ *   bits 32-63: valor
+ *
+ * @author Copilot
+ * @version 1.0
+ */
+public interface TranspositionTable {
+    
+    // Tipo do valor guardado
+    int EXACT = 1; // Valor exato
+    int LOWER = 2; // Limite inferior (houve poda beta)
+    int UPPER = 3; // Limite superior (nenhuma jogada superou alfa)
+    
+    /**
+     * Procura uma posição
+     * @param hash hash da posição
+     * @return dados da entrada, ou 0 se a posição não está na tabela
+     */
+    long probe(long hash);
+    
+    /**
+     * Grava uma posição (a tabela decide se substitui a entrada anterior)
+     * @param hash hash da posição
+     * @param data dados empacotados com entry()
+     */
+    void store(long hash, long data);
+    
+    /**
+     * Avisa que uma nova jogada começou a ser buscada; entradas de buscas
+     * anteriores podem ser substituídas primeiro
+     */
+    default void newSearch() {
+    }
+    
+    /**
+     * Esvazia a tabela
+     */
+    void clear();
+    
+    /**
+     * Empacota os dados de uma entrada
+     * @param move melhor jogada, ou -1
+     * @param depth profundidade da busca (0-255)
+     * @param bound EXACT, LOWER ou UPPER
+     * @param score valor
+     * @return dados da entrada (nunca 0)
+     */
+    static long entry(int move, int depth, int bound, int score) {
+        return (move + 1) | (long) depth << 16 | (long) bound << 24 | (long) score << 32;
+    }
+    
+    static int getMove(long data) { return (int) (data & 0xFFFF) - 1; }
+    static int getDepth(long data) { return (int) (data >>> 16) & 0xFF; }
+    static int getBound(long data) { return (int) (data >>> 24) & 0x3; }
+    static int getScore(long data) { return (int) (data >> 32); }
+}